@@ -1,5 +1,7 @@
 package app.config;
 
+import app.tracing.ObservedPasswordEncoder;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -9,7 +11,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class BeanConfiguration {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ObservationRegistry observationRegistry) {
+        return new ObservedPasswordEncoder(new BCryptPasswordEncoder(), observationRegistry);
     }
 }
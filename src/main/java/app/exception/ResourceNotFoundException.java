@@ -0,0 +1,8 @@
+package app.exception;
+
+public class ResourceNotFoundException extends DomainException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
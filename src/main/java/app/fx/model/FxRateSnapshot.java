@@ -0,0 +1,114 @@
+package app.fx.model;
+
+import app.exception.DomainException;
+import app.money.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+public final class FxRateSnapshot {
+
+    private static final int FACTOR_SCALE = 9;
+    private static final long FACTOR_UNIT = 1_000_000_000L;
+    private static final long HALF_FACTOR_UNIT = FACTOR_UNIT / 2;
+
+    private final Currency baseCurrency;
+    private final Map<Currency, BigDecimal> ratesPerBase;
+    private final Map<Currency, Integer> indexes;
+    private final long[][] factors;
+    private final BigDecimal[][] exactFactors;
+    private final Instant loadedAt;
+
+    public FxRateSnapshot(Currency baseCurrency, Map<Currency, BigDecimal> ratesPerBase, Instant loadedAt) {
+        if (ratesPerBase.get(baseCurrency) == null || ratesPerBase.get(baseCurrency).compareTo(BigDecimal.ONE) != 0) {
+            throw new IllegalArgumentException("Base currency [%s] must have a rate of 1.".formatted(baseCurrency));
+        }
+
+        this.baseCurrency = baseCurrency;
+        this.ratesPerBase = Collections.unmodifiableMap(new LinkedHashMap<>(ratesPerBase));
+        this.loadedAt = loadedAt;
+
+        Currency[] currencies = this.ratesPerBase.keySet().toArray(Currency[]::new);
+        Map<Currency, Integer> indexes = new HashMap<>();
+        this.factors = new long[currencies.length][currencies.length];
+        this.exactFactors = new BigDecimal[currencies.length][currencies.length];
+
+        for (int from = 0; from < currencies.length; from++) {
+            indexes.put(currencies[from], from);
+            for (int to = 0; to < currencies.length; to++) {
+                BigDecimal factor = this.ratesPerBase.get(currencies[to])
+                        .divide(this.ratesPerBase.get(currencies[from]), 18, RoundingMode.HALF_EVEN)
+                        .movePointRight(scale(currencies[to]) - scale(currencies[from]));
+                this.exactFactors[from][to] = factor;
+                this.factors[from][to] = factor.setScale(FACTOR_SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+            }
+        }
+        this.indexes = Map.copyOf(indexes);
+    }
+
+    public Money convert(Money money, Currency target) {
+        Currency source = money.getCurrency();
+        if (source.equals(target)) {
+            return money;
+        }
+
+        int from = indexOf(source);
+        int to = indexOf(target);
+        long factor = this.factors[from][to];
+        long amount = Math.abs(money.getMinorUnits());
+
+        long product = amount * factor;
+        if (Math.multiplyHigh(amount, factor) != 0 || product < 0 || product > Long.MAX_VALUE - HALF_FACTOR_UNIT) {
+            return convertExactly(money, target, this.exactFactors[from][to]);
+        }
+
+        long converted = (product + HALF_FACTOR_UNIT) / FACTOR_UNIT;
+        return Money.ofMinor(money.signum() < 0 ? -converted : converted, target);
+    }
+
+    public boolean supports(Currency currency) {
+        return this.indexes.containsKey(currency);
+    }
+
+    public Set<Currency> getCurrencies() {
+        return this.ratesPerBase.keySet();
+    }
+
+    public Currency getBaseCurrency() {
+        return this.baseCurrency;
+    }
+
+    public BigDecimal getRatePerBase(Currency currency) {
+        return this.ratesPerBase.get(currency);
+    }
+
+    public Instant getLoadedAt() {
+        return this.loadedAt;
+    }
+
+    private int indexOf(Currency currency) {
+        Integer index = this.indexes.get(currency);
+        if (index == null) {
+            throw new DomainException("Currency [%s] is not supported.".formatted(currency));
+        }
+        return index;
+    }
+
+    private static Money convertExactly(Money money, Currency target, BigDecimal factor) {
+        BigDecimal converted = BigDecimal.valueOf(money.getMinorUnits())
+                .multiply(factor)
+                .setScale(0, RoundingMode.HALF_UP);
+        return Money.ofMinor(converted.longValueExact(), target);
+    }
+
+    private static int scale(Currency currency) {
+        return Math.max(0, currency.getDefaultFractionDigits());
+    }
+}
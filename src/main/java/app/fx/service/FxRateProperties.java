@@ -0,0 +1,15 @@
+package app.fx.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Currency;
+
+@Data
+@ConfigurationProperties(prefix = "fx.rates")
+public class FxRateProperties {
+
+    private String location = "classpath:fx-rates.csv";
+
+    private Currency baseCurrency = Currency.getInstance("EUR");
+}
@@ -0,0 +1,111 @@
+package app.fx.service;
+
+import app.exception.DomainException;
+import app.fx.model.FxRateSnapshot;
+import app.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class FxRateService {
+
+    private final Resource rates;
+    private final Currency baseCurrency;
+    private volatile FxRateSnapshot snapshot;
+    private volatile long ratesLastModified;
+
+    @Autowired
+    public FxRateService(FxRateProperties properties, ResourceLoader resourceLoader) {
+        this.rates = resourceLoader.getResource(properties.getLocation());
+        this.baseCurrency = properties.getBaseCurrency();
+        this.ratesLastModified = lastModified();
+        this.snapshot = load();
+        log.info("Loaded [{}] FX rates against [{}] from [{}].", this.snapshot.getCurrencies().size(), this.baseCurrency, this.rates);
+    }
+
+    public Money convert(Money money, Currency target) {
+        return this.snapshot.convert(money, target);
+    }
+
+    public FxRateSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    public Set<Currency> getSupportedCurrencies() {
+        return this.snapshot.getCurrencies();
+    }
+
+    public void requireSupported(Currency currency) {
+        if (!this.snapshot.supports(currency)) {
+            throw new DomainException("Currency [%s] is not supported.".formatted(currency));
+        }
+    }
+
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void refresh() {
+        long lastModified = lastModified();
+        if (lastModified == this.ratesLastModified) {
+            return;
+        }
+
+        try {
+            this.snapshot = load();
+            this.ratesLastModified = lastModified;
+            log.info("Reloaded [{}] FX rates from [{}].", this.snapshot.getCurrencies().size(), this.rates);
+        } catch (RuntimeException e) {
+            log.warn("Keeping FX rates loaded at [{}], reloading [{}] failed.", this.snapshot.getLoadedAt(), this.rates, e);
+        }
+    }
+
+    private FxRateSnapshot load() {
+        Map<Currency, BigDecimal> ratesPerBase = new LinkedHashMap<>();
+        ratesPerBase.put(this.baseCurrency, BigDecimal.ONE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(this.rates.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#") || line.startsWith("currency,")) {
+                    continue;
+                }
+
+                String[] columns = line.split(",");
+                BigDecimal rate = new BigDecimal(columns[1].strip());
+                if (rate.signum() <= 0) {
+                    throw new IllegalStateException("FX rate [%s] must be positive.".formatted(line));
+                }
+                ratesPerBase.put(Currency.getInstance(columns[0].strip()), rate);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read FX rates from [%s].".formatted(this.rates), e);
+        }
+
+        return new FxRateSnapshot(this.baseCurrency, ratesPerBase, Instant.now());
+    }
+
+    private long lastModified() {
+        try {
+            return this.rates.lastModified();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package app.idempotency.model;
+
+public enum IdempotentOperation {
+    TOP_UP, TRANSFER, TRANSFER_ORDER, SUBSCRIPTION_UPGRADE
+}
@@ -0,0 +1,200 @@
+package app.idempotency.service;
+
+import app.exception.DomainException;
+import app.idempotency.model.IdempotencyRecord;
+import app.idempotency.model.IdempotentOperation;
+import app.idempotency.repository.IdempotencyRecordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final Duration KEY_TTL = Duration.ofHours(24);
+    private static final long MAX_RESULTS_IN_MEMORY = 100_000;
+    private static final long IN_FLIGHT_TIMEOUT_SECONDS = 30;
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, StoredResult> storedResults = Caffeine.newBuilder()
+            .maximumSize(MAX_RESULTS_IN_MEMORY)
+            .expireAfterWrite(KEY_TTL)
+            .build();
+    private final ConcurrentMap<String, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository, PlatformTransactionManager transactionManager) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public UUID execute(UUID ownerId, IdempotentOperation operation, String idempotencyKey, Object request, Supplier<UUID> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new DomainException("Idempotency key cannot be longer than %d symbols.".formatted(MAX_KEY_LENGTH));
+        }
+
+        String recordId = ownerId + ":" + operation + ":" + idempotencyKey;
+        String requestFingerprint = fingerprint(request);
+
+        UUID storedResultId = findStoredResultId(recordId, idempotencyKey, requestFingerprint);
+        if (storedResultId != null) {
+            return storedResultId;
+        }
+
+        InFlightRequest inFlightRequest = new InFlightRequest(requestFingerprint);
+        InFlightRequest existingRequest = this.inFlightRequests.putIfAbsent(recordId, inFlightRequest);
+        if (existingRequest != null) {
+            requireSameRequest(idempotencyKey, existingRequest.requestFingerprint, requestFingerprint);
+            return awaitResult(idempotencyKey, existingRequest.result);
+        }
+
+        try {
+            UUID resultId = executeAndStore(recordId, ownerId, idempotencyKey, requestFingerprint, action);
+            inFlightRequest.result.complete(resultId);
+            return resultId;
+        } catch (RuntimeException e) {
+            inFlightRequest.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlightRequests.remove(recordId, inFlightRequest);
+        }
+    }
+
+    private UUID executeAndStore(String recordId, UUID ownerId, String idempotencyKey, String requestFingerprint, Supplier<UUID> action) {
+        try {
+            IdempotencyRecord storedRecord = this.transactionTemplate.execute(status -> {
+                UUID resultId = action.get();
+
+                IdempotencyRecord idempotencyRecord = IdempotencyRecord.builder()
+                        .id(recordId)
+                        .ownerId(ownerId)
+                        .requestFingerprint(requestFingerprint)
+                        .resultId(resultId)
+                        .createdOn(LocalDateTime.now())
+                        .build();
+
+                return this.idempotencyRecordRepository.saveAndFlush(idempotencyRecord);
+            });
+
+            return remember(storedRecord).resultId;
+        } catch (DataIntegrityViolationException e) {
+            UUID storedResultId = this.transactionTemplate.execute(status -> findStoredResultId(recordId, idempotencyKey, requestFingerprint));
+            if (storedResultId == null) {
+                throw e;
+            }
+
+            log.info("Idempotency key [{}] was stored concurrently by another request, rolled back the duplicate.", idempotencyKey);
+            return storedResultId;
+        }
+    }
+
+    private UUID findStoredResultId(String recordId, String idempotencyKey, String requestFingerprint) {
+        StoredResult storedResult = this.storedResults.getIfPresent(recordId);
+        if (storedResult == null || storedResult.createdOn.isBefore(LocalDateTime.now().minus(KEY_TTL))) {
+            storedResult = this.idempotencyRecordRepository.findById(recordId)
+                    .map(this::remember)
+                    .orElse(null);
+        }
+
+        if (storedResult == null) {
+            return null;
+        }
+
+        requireSameRequest(idempotencyKey, storedResult.requestFingerprint, requestFingerprint);
+        return storedResult.resultId;
+    }
+
+    private StoredResult remember(IdempotencyRecord idempotencyRecord) {
+        StoredResult storedResult = new StoredResult(idempotencyRecord.getRequestFingerprint(), idempotencyRecord.getResultId(), idempotencyRecord.getCreatedOn());
+        this.storedResults.put(idempotencyRecord.getId(), storedResult);
+        return storedResult;
+    }
+
+    private static void requireSameRequest(String idempotencyKey, String storedFingerprint, String requestFingerprint) {
+        if (!storedFingerprint.equals(requestFingerprint)) {
+            throw new DomainException("Idempotency key [%s] was already used for a different request.".formatted(idempotencyKey));
+        }
+    }
+
+    private static String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(String.valueOf(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    private UUID awaitResult(String idempotencyKey, CompletableFuture<UUID> result) {
+        try {
+            return result.get(IN_FLIGHT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new DomainException("Request with idempotency key [%s] failed.".formatted(idempotencyKey), e.getCause());
+        } catch (TimeoutException e) {
+            throw new DomainException("Request with idempotency key [%s] is still being processed.".formatted(idempotencyKey), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DomainException("Interrupted while waiting for request with idempotency key [%s].".formatted(idempotencyKey), e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void deleteExpiredRecords() {
+        int deletedRecords = this.idempotencyRecordRepository.deleteAllCreatedBefore(LocalDateTime.now().minus(KEY_TTL));
+        log.info("Deleted [{}] expired idempotency records.", deletedRecords);
+    }
+
+    private static final class StoredResult {
+
+        private final String requestFingerprint;
+        private final UUID resultId;
+        private final LocalDateTime createdOn;
+
+        private StoredResult(String requestFingerprint, UUID resultId, LocalDateTime createdOn) {
+            this.requestFingerprint = requestFingerprint;
+            this.resultId = resultId;
+            this.createdOn = createdOn;
+        }
+    }
+
+    private static final class InFlightRequest {
+
+        private final String requestFingerprint;
+        private final CompletableFuture<UUID> result = new CompletableFuture<>();
+
+        private InFlightRequest(String requestFingerprint) {
+            this.requestFingerprint = requestFingerprint;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package app.live.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class BalanceUpdate {
+
+    private UUID walletId;
+
+    private String balance;
+
+    private String currency;
+}
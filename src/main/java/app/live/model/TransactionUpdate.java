@@ -0,0 +1,32 @@
+package app.live.model;
+
+import app.transaction.model.TransactionStatus;
+import app.transaction.model.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TransactionUpdate {
+
+    private UUID transactionId;
+
+    private String sender;
+
+    private String receiver;
+
+    private TransactionType type;
+
+    private TransactionStatus status;
+
+    private String amount;
+
+    private String currency;
+
+    private String description;
+
+    private LocalDateTime createdOn;
+}
@@ -0,0 +1,104 @@
+package app.live.service;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.UUID;
+
+final class LiveConnection {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> RESYNC = SseEmitter.event().name("resync").data("{}").build();
+
+    private final UUID userId;
+    private final SseEmitter emitter;
+    private final int bufferSize;
+    private final Counter droppedEvents;
+    private final ArrayDeque<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+    private boolean draining;
+    private boolean closed;
+
+    LiveConnection(UUID userId, SseEmitter emitter, int bufferSize, Counter droppedEvents) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.bufferSize = bufferSize;
+        this.droppedEvents = droppedEvents;
+        this.buffer = new ArrayDeque<>(Math.min(bufferSize, 8));
+    }
+
+    UUID getUserId() {
+        return this.userId;
+    }
+
+    SseEmitter getEmitter() {
+        return this.emitter;
+    }
+
+    synchronized boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        if (this.closed) {
+            return false;
+        }
+
+        if (this.buffer.size() >= this.bufferSize) {
+            this.droppedEvents.increment(this.buffer.size() + 1);
+            this.buffer.clear();
+            this.buffer.add(RESYNC);
+        } else {
+            this.buffer.add(frame);
+        }
+        return startDraining();
+    }
+
+    synchronized boolean offerIfIdle(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        if (this.closed || !this.buffer.isEmpty()) {
+            return false;
+        }
+
+        this.buffer.add(frame);
+        return startDraining();
+    }
+
+    boolean drain() {
+        while (true) {
+            Set<ResponseBodyEmitter.DataWithMediaType> frame;
+            synchronized (this) {
+                frame = this.buffer.poll();
+                if (frame == null || this.closed) {
+                    this.draining = false;
+                    return true;
+                }
+            }
+
+            try {
+                this.emitter.send(frame);
+            } catch (IOException | IllegalStateException e) {
+                synchronized (this) {
+                    this.draining = false;
+                }
+                return false;
+            }
+        }
+    }
+
+    synchronized boolean close() {
+        if (this.closed) {
+            return false;
+        }
+
+        this.closed = true;
+        this.buffer.clear();
+        return true;
+    }
+
+    private boolean startDraining() {
+        if (this.draining) {
+            return false;
+        }
+
+        this.draining = true;
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+package app.live.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "live-updates")
+public class LiveUpdateProperties {
+
+    private boolean enabled = true;
+
+    private int maxConnections = 20_000;
+
+    private int maxConnectionsPerUser = 5;
+
+    private int bufferSize = 32;
+
+    private int deliveryThreads = 4;
+
+    private Duration heartbeatInterval = Duration.ofSeconds(25);
+
+    private Duration connectionTimeout = Duration.ofMinutes(30);
+
+    private Duration reconnectDelay = Duration.ofSeconds(3);
+}
@@ -0,0 +1,194 @@
+package app.live.service;
+
+import app.live.model.BalanceUpdate;
+import app.live.model.TransactionUpdate;
+import app.transaction.event.TransactionRecordedEvent;
+import app.transaction.model.Transaction;
+import app.wallet.event.WalletBalanceChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class LiveUpdateService {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final LiveUpdateProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<UUID, List<LiveConnection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Set<ResponseBodyEmitter.DataWithMediaType> connected;
+    private final ExecutorService delivery;
+    private final Counter droppedEvents;
+
+    @Autowired
+    public LiveUpdateService(LiveUpdateProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.connected = SseEmitter.event().reconnectTime(properties.getReconnectDelay().toMillis()).comment("connected").build();
+
+        AtomicInteger threads = new AtomicInteger();
+        this.delivery = Executors.newFixedThreadPool(properties.getDeliveryThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "live-delivery-" + threads.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("live.connections", this.connections, AtomicInteger::get)
+                .description("Open server-sent event connections")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("live.events.dropped")
+                .description("Live update events dropped because a connection's buffer was full")
+                .register(meterRegistry);
+    }
+
+    public Optional<SseEmitter> connect(UUID userId) {
+        if (!this.properties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        if (this.connections.incrementAndGet() > this.properties.getMaxConnections()) {
+            this.connections.decrementAndGet();
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(this.properties.getConnectionTimeout().toMillis());
+        LiveConnection connection = new LiveConnection(userId, emitter, this.properties.getBufferSize(), this.droppedEvents);
+        emitter.onCompletion(() -> disconnect(connection));
+        emitter.onTimeout(() -> disconnect(connection));
+        emitter.onError(error -> disconnect(connection));
+
+        List<LiveConnection> evicted = new ArrayList<>(1);
+        this.connectionsByUser.compute(userId, (id, current) -> {
+            List<LiveConnection> next = current == null ? new ArrayList<>(1) : new ArrayList<>(current);
+            if (next.size() >= this.properties.getMaxConnectionsPerUser()) {
+                evicted.add(next.remove(0));
+            }
+            next.add(connection);
+            return List.copyOf(next);
+        });
+
+        for (LiveConnection oldest : evicted) {
+            disconnect(oldest);
+            oldest.getEmitter().complete();
+        }
+
+        enqueue(connection, this.connected);
+        return Optional.of(emitter);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWalletBalanceChanged(WalletBalanceChangedEvent event) {
+        publish(event.getOwnerId(), "balance", () -> new BalanceUpdate(event.getWalletId(),
+                event.getBalance().toPlainString(),
+                event.getBalance().getCurrency().getCurrencyCode()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionRecorded(TransactionRecordedEvent event) {
+        Transaction transaction = event.getTransaction();
+        publish(event.getOwnerId(), "transaction", () -> new TransactionUpdate(transaction.getId(),
+                transaction.getSender(),
+                transaction.getReceiver(),
+                transaction.getType(),
+                transaction.getStatus(),
+                transaction.getAmount().toPlainString(),
+                transaction.getCurrency().getCurrencyCode(),
+                transaction.getDescription(),
+                transaction.getCreatedOn()));
+    }
+
+    @Scheduled(fixedDelayString = "${live-updates.heartbeat-interval:25s}")
+    public void sendHeartbeats() {
+        for (List<LiveConnection> userConnections : this.connectionsByUser.values()) {
+            for (LiveConnection connection : userConnections) {
+                if (connection.offerIfIdle(HEARTBEAT)) {
+                    schedule(connection);
+                }
+            }
+        }
+    }
+
+    private void publish(UUID userId, String name, Supplier<Object> payload) {
+        List<LiveConnection> userConnections = this.connectionsByUser.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event().name(name).data(this.objectMapper.writeValueAsString(payload.get())).build();
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize live [{}] update for user [{}].", name, userId, e);
+            return;
+        }
+
+        for (LiveConnection connection : userConnections) {
+            enqueue(connection, frame);
+        }
+    }
+
+    private void enqueue(LiveConnection connection, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        if (connection.offer(frame)) {
+            schedule(connection);
+        }
+    }
+
+    private void schedule(LiveConnection connection) {
+        try {
+            this.delivery.execute(() -> {
+                if (!connection.drain()) {
+                    disconnect(connection);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            disconnect(connection);
+        }
+    }
+
+    private void disconnect(LiveConnection connection) {
+        if (!connection.close()) {
+            return;
+        }
+
+        this.connections.decrementAndGet();
+        this.connectionsByUser.computeIfPresent(connection.getUserId(), (id, current) -> {
+            List<LiveConnection> remaining = current.stream().filter(other -> other != connection).toList();
+            return remaining.isEmpty() ? null : remaining;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.delivery.shutdownNow();
+        this.connectionsByUser.values().forEach(userConnections -> userConnections.forEach(connection -> {
+            disconnect(connection);
+            connection.getEmitter().complete();
+        }));
+    }
+}
@@ -0,0 +1,64 @@
+package app.metrics;
+
+import app.transaction.model.Transaction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+@Aspect
+@Component
+@Order(0)
+public class MoneyMovementMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public MoneyMovementMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(app.metrics.TimedMoneyMovement)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        TimedMoneyMovement timedMoneyMovement = ((MethodSignature) joinPoint.getSignature()).getMethod().getAnnotation(TimedMoneyMovement.class);
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        String outcome = "error";
+        String failureReason = "none";
+
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof Transaction transaction) {
+                outcome = transaction.getStatus().name().toLowerCase(Locale.ROOT);
+                failureReason = normalize(transaction.getFailureReason());
+            } else {
+                outcome = "succeeded";
+            }
+            return result;
+        } catch (Throwable e) {
+            failureReason = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("money.movement")
+                    .description("Latency of money-movement operations, including their database commit")
+                    .tag("operation", timedMoneyMovement.value())
+                    .tag("outcome", outcome)
+                    .tag("failure_reason", failureReason)
+                    .register(this.meterRegistry));
+        }
+    }
+
+    private static String normalize(String failureReason) {
+        if (failureReason == null) {
+            return "none";
+        }
+
+        return failureReason.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_");
+    }
+}
@@ -0,0 +1,126 @@
+package app.money;
+
+import app.exception.DomainException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+public final class Money implements Comparable<Money> {
+
+    public static final Currency EUR = Currency.getInstance("EUR");
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L};
+    private static final Money ZERO_EUR = new Money(0, EUR);
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return minorUnits == 0 ? zero(currency) : new Money(minorUnits, Objects.requireNonNull(currency));
+    }
+
+    public static Money of(BigDecimal amount, Currency currency) {
+        try {
+            return ofMinor(amount.setScale(scale(currency), RoundingMode.UNNECESSARY).unscaledValue().longValueExact(), currency);
+        } catch (ArithmeticException e) {
+            throw new DomainException("Amount [%s] cannot be represented in [%s].".formatted(amount.toPlainString(), currency), e);
+        }
+    }
+
+    public static Money zero(Currency currency) {
+        return EUR.equals(currency) ? ZERO_EUR : new Money(0, Objects.requireNonNull(currency));
+    }
+
+    public long getMinorUnits() {
+        return this.minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return this.currency;
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return other.minorUnits == 0 ? this : ofMinor(Math.addExact(this.minorUnits, other.minorUnits), this.currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return other.minorUnits == 0 ? this : ofMinor(Math.subtractExact(this.minorUnits, other.minorUnits), this.currency);
+    }
+
+    public Money negate() {
+        return ofMinor(Math.negateExact(this.minorUnits), this.currency);
+    }
+
+    public int signum() {
+        return Long.signum(this.minorUnits);
+    }
+
+    public boolean isLessThan(Money other) {
+        return compareTo(other) < 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(this.minorUnits, scale(this.currency));
+    }
+
+    public String toPlainString() {
+        int scale = scale(this.currency);
+        if (scale == 0) {
+            return Long.toString(this.minorUnits);
+        }
+
+        long unit = POWERS_OF_TEN[scale];
+        long absolute = Math.abs(this.minorUnits);
+        String fraction = Long.toString(absolute % unit);
+
+        StringBuilder plain = new StringBuilder(24);
+        if (this.minorUnits < 0) {
+            plain.append('-');
+        }
+        plain.append(absolute / unit).append('.');
+        for (int i = fraction.length(); i < scale; i++) {
+            plain.append('0');
+        }
+        return plain.append(fraction).toString();
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(this.minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money money && this.minorUnits == money.minorUnits && this.currency.equals(money.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.minorUnits) * 31 + this.currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString() + " " + this.currency.getCurrencyCode();
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!this.currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Cannot combine [%s] with [%s].".formatted(this.currency, other.currency));
+        }
+    }
+
+    private static int scale(Currency currency) {
+        return Math.max(0, currency.getDefaultFractionDigits());
+    }
+}
@@ -35,7 +35,7 @@ public class NotificationService {
 
         ResponseEntity<Void> httpResponse = notificationClient.upsertNotificationPreference(notificationPreference);
         if (!httpResponse.getStatusCode().is2xxSuccessful()) {
-            log.error("[Feign call to notification-svc failed] Can't save user preference for user with id [%s]".formatted(userId));
+            log.error("[Feign call to notification-svc failed] Can't save user preference for user with id [{}]", userId);
         }
     }
 
@@ -69,10 +69,10 @@ public class NotificationService {
         try {
             httpResponse = notificationClient.sendNotification(notificationRequest);
             if (!httpResponse.getStatusCode().is2xxSuccessful()) {
-                log.warn("[Feign call to notification-svc failed] Can't send email to user with id [%s]".formatted(userId));
+                log.warn("[Feign call to notification-svc failed] Can't send email to user with id [{}]", userId);
             }
         } catch (Exception e) {
-            log.warn("Can't send email to user with id [%s]".formatted(userId));
+            log.warn("Can't send email to user with id [{}]", userId);
 
         }
     }
@@ -82,7 +82,7 @@ public class NotificationService {
         try {
             notificationClient.updateNotificationPreference(userId, enabled);
         }catch (Exception e) {
-            log.warn("Can't update notification preferences for user with id [%s].".formatted(userId));
+            log.warn("Can't update notification preferences for user with id [{}].", userId);
         }
     }
 }
@@ -0,0 +1,19 @@
+package app.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "datasource.pool")
+public class ConnectionPoolProperties {
+
+    private boolean sizeFromCores = false;
+
+    private int connectionsPerCore = 2;
+
+    private int effectiveSpindleCount = 1;
+
+    public int getPoolSize() {
+        return Runtime.getRuntime().availableProcessors() * this.connectionsPerCore + this.effectiveSpindleCount;
+    }
+}
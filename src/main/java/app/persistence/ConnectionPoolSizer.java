@@ -0,0 +1,38 @@
+package app.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class ConnectionPoolSizer implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<ConnectionPoolProperties> properties;
+
+    @Autowired
+    public ConnectionPoolSizer(ObjectProvider<ConnectionPoolProperties> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && this.properties.getObject().isSizeFromCores()) {
+            int poolSize = this.properties.getObject().getPoolSize();
+            dataSource.setMaximumPoolSize(poolSize);
+            dataSource.setMinimumIdle(poolSize);
+            log.info("Sized connection pool [{}] to [{}] connections.", beanName, poolSize);
+        }
+
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
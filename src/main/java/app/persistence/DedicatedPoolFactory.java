@@ -0,0 +1,52 @@
+package app.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class DedicatedPoolFactory {
+
+    private final DataSourceProperties dataSourceProperties;
+    private final Map<String, String> driverProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public DedicatedPoolFactory(DataSourceProperties dataSourceProperties, Environment environment, MeterRegistry meterRegistry) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.driverProperties = Binder.get(environment)
+                .bind("spring.datasource.hikari.data-source-properties", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        this.meterRegistry = meterRegistry;
+    }
+
+    public HikariDataSource createReplicaPool(String poolName, ReplicaProperties.Node node) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(this.dataSourceProperties.determineDriverClassName())
+                .url(node.getUrl())
+                .username(node.getUsername())
+                .password(node.getPassword())
+                .build();
+        dataSource.setReadOnly(true);
+
+        return configure(dataSource, poolName);
+    }
+
+    private HikariDataSource configure(HikariDataSource dataSource, String poolName) {
+        dataSource.setPoolName(poolName);
+        this.driverProperties.forEach(dataSource::addDataSourceProperty);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(this.meterRegistry));
+
+        return dataSource;
+    }
+}
@@ -0,0 +1,33 @@
+package app.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "datasource.replicas")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    @Data
+    public static class Node {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
@@ -0,0 +1,141 @@
+package app.persistence;
+
+import app.security.AuthenticationMetaData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<DataSource> replicas;
+    private volatile boolean[] healthyReplicas;
+    private final ReplicaProperties properties;
+    private final Cache<UUID, Boolean> recentWriters;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReplicaProperties properties) {
+        this.replicas = replicas;
+        this.healthyReplicas = new boolean[replicas.size()];
+        this.properties = properties;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .maximumSize(100_000)
+                .build();
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targetDataSources.put(replicaKey(i), replicas.get(i));
+        }
+
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        UUID userId = getCurrentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                this.recentWriters.put(userId, Boolean.TRUE);
+            }
+            return PRIMARY;
+        }
+
+        if (userId != null && this.recentWriters.getIfPresent(userId) != null) {
+            return PRIMARY;
+        }
+
+        boolean[] healthyReplicas = this.healthyReplicas;
+        for (int attempt = 0; attempt < healthyReplicas.length; attempt++) {
+            int replica = Math.floorMod(this.nextReplica.getAndIncrement(), healthyReplicas.length);
+            if (healthyReplicas[replica]) {
+                return replicaKey(replica);
+            }
+        }
+
+        return PRIMARY;
+    }
+
+    public void checkReplicaLag() {
+        boolean[] healthyReplicas = new boolean[this.replicas.size()];
+        for (int i = 0; i < healthyReplicas.length; i++) {
+            healthyReplicas[i] = isWithinMaxLag(this.replicas.get(i));
+            if (healthyReplicas[i] != this.healthyReplicas[i]) {
+                log.info("Replica [{}] is now {}.", i, healthyReplicas[i] ? "in rotation" : "out of rotation");
+            }
+        }
+
+        this.healthyReplicas = healthyReplicas;
+    }
+
+    public void close() {
+        for (DataSource replica : this.replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Replica data source cannot be closed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private boolean isWithinMaxLag(DataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(this.properties.getLagQuery())) {
+
+            if (!resultSet.next()) {
+                return false;
+            }
+
+            long lagSeconds = readLagSeconds(resultSet);
+            return !resultSet.wasNull() && Duration.ofSeconds(lagSeconds).compareTo(this.properties.getMaxLag()) <= 0;
+        } catch (SQLException e) {
+            log.warn("Replica lag check failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static long readLagSeconds(ResultSet resultSet) throws SQLException {
+        try {
+            return resultSet.getLong(resultSet.findColumn("Seconds_Behind_Source"));
+        } catch (SQLException e) {
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static UUID getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticationMetaData authenticationMetaData) {
+            return authenticationMetaData.getId();
+        }
+
+        return null;
+    }
+
+    private static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+}
@@ -0,0 +1,54 @@
+package app.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final long VERSION = 0x7000L;
+    private static final long COUNTER_MASK = 0x0FFFL;
+    private static final int COUNTER_SEED_BOUND = 0x0800;
+
+    private static final AtomicLong lastMostSignificantBits = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    public static UUID generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long candidate = (System.currentTimeMillis() << 16) | VERSION | random.nextInt(COUNTER_SEED_BOUND);
+        long mostSignificantBits = lastMostSignificantBits.accumulateAndGet(candidate,
+                (last, next) -> next > last ? next : increment(last));
+        long leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static UUID lowerBound(long epochMillis) {
+        return new UUID((epochMillis << 16) | VERSION, 0x8000000000000000L);
+    }
+
+    private static long increment(long last) {
+        long counter = (last & COUNTER_MASK) + 1;
+        if (counter > COUNTER_MASK) {
+            return (((last >>> 16) + 1) << 16) | VERSION;
+        }
+
+        return (last & ~COUNTER_MASK) | counter;
+    }
+}
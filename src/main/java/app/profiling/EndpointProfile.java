@@ -0,0 +1,33 @@
+package app.profiling;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class EndpointProfile {
+
+    private String endpoint;
+
+    private long requests;
+
+    private long slowRequests;
+
+    private double meanMillis;
+
+    private double maxMillis;
+
+    private double meanStatements;
+
+    private int maxStatements;
+
+    private double meanDbMillis;
+
+    private double meanFeignMillis;
+
+    private double meanEntitiesLoaded;
+
+    private List<String> slowestRequestStatements;
+}
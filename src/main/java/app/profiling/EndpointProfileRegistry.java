@@ -0,0 +1,129 @@
+package app.profiling;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class EndpointProfileRegistry {
+
+    private static final int SLOWEST_REQUEST_STATEMENTS = 5;
+
+    private final RequestProfilerProperties properties;
+
+    private volatile Map<String, EndpointStats> current = new ConcurrentHashMap<>();
+    private volatile Map<String, EndpointStats> previous = new ConcurrentHashMap<>();
+    private volatile long windowStart = System.nanoTime();
+
+    @Autowired
+    public EndpointProfileRegistry(RequestProfilerProperties properties) {
+        this.properties = properties;
+    }
+
+    public void record(String endpoint, long elapsedNanos, boolean slow, RequestProfile profile) {
+        rotateIfExpired();
+        this.current.computeIfAbsent(endpoint, key -> new EndpointStats()).record(elapsedNanos, slow, profile);
+    }
+
+    public List<EndpointProfile> getWorstEndpoints() {
+        rotateIfExpired();
+
+        Map<String, EndpointStats> merged = new HashMap<>();
+        this.previous.forEach((endpoint, stats) -> merged.computeIfAbsent(endpoint, key -> new EndpointStats()).merge(stats));
+        this.current.forEach((endpoint, stats) -> merged.computeIfAbsent(endpoint, key -> new EndpointStats()).merge(stats));
+
+        return merged.entrySet().stream()
+                .map(entry -> entry.getValue().toProfile(entry.getKey()))
+                .sorted(Comparator.comparingDouble(EndpointProfile::getMeanMillis).reversed())
+                .limit(this.properties.getTopEndpoints())
+                .toList();
+    }
+
+    private void rotateIfExpired() {
+        long now = System.nanoTime();
+        if (now - this.windowStart < this.properties.getWindow().toNanos()) {
+            return;
+        }
+
+        synchronized (this) {
+            if (now - this.windowStart >= this.properties.getWindow().toNanos()) {
+                this.previous = now - this.windowStart >= 2 * this.properties.getWindow().toNanos() ? new ConcurrentHashMap<>() : this.current;
+                this.current = new ConcurrentHashMap<>();
+                this.windowStart = now;
+            }
+        }
+    }
+
+    private static class EndpointStats {
+
+        private long requests;
+        private long slowRequests;
+        private long totalNanos;
+        private long maxNanos;
+        private long totalStatements;
+        private int maxStatements;
+        private long totalDbNanos;
+        private long totalFeignNanos;
+        private long totalEntitiesLoaded;
+        private List<String> slowestRequestStatements = List.of();
+
+        synchronized void record(long elapsedNanos, boolean slow, RequestProfile profile) {
+            this.requests++;
+            this.slowRequests += slow ? 1 : 0;
+            this.totalNanos += elapsedNanos;
+            this.totalStatements += profile.getStatements();
+            this.maxStatements = Math.max(this.maxStatements, profile.getStatements());
+            this.totalDbNanos += profile.getDbNanos();
+            this.totalFeignNanos += profile.getFeignNanos();
+            this.totalEntitiesLoaded += profile.getEntitiesLoaded();
+
+            if (elapsedNanos > this.maxNanos) {
+                this.maxNanos = elapsedNanos;
+                this.slowestRequestStatements = profile.getTopStatements(SLOWEST_REQUEST_STATEMENTS);
+            }
+        }
+
+        synchronized void merge(EndpointStats other) {
+            synchronized (other) {
+                this.requests += other.requests;
+                this.slowRequests += other.slowRequests;
+                this.totalNanos += other.totalNanos;
+                this.totalStatements += other.totalStatements;
+                this.maxStatements = Math.max(this.maxStatements, other.maxStatements);
+                this.totalDbNanos += other.totalDbNanos;
+                this.totalFeignNanos += other.totalFeignNanos;
+                this.totalEntitiesLoaded += other.totalEntitiesLoaded;
+
+                if (other.maxNanos > this.maxNanos) {
+                    this.maxNanos = other.maxNanos;
+                    this.slowestRequestStatements = other.slowestRequestStatements;
+                }
+            }
+        }
+
+        synchronized EndpointProfile toProfile(String endpoint) {
+            return EndpointProfile.builder()
+                    .endpoint(endpoint)
+                    .requests(this.requests)
+                    .slowRequests(this.slowRequests)
+                    .meanMillis(toMillis(this.totalNanos) / this.requests)
+                    .maxMillis(toMillis(this.maxNanos))
+                    .meanStatements((double) this.totalStatements / this.requests)
+                    .maxStatements(this.maxStatements)
+                    .meanDbMillis(toMillis(this.totalDbNanos) / this.requests)
+                    .meanFeignMillis(toMillis(this.totalFeignNanos) / this.requests)
+                    .meanEntitiesLoaded((double) this.totalEntitiesLoaded / this.requests)
+                    .slowestRequestStatements(this.slowestRequestStatements)
+                    .build();
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package app.profiling;
+
+import feign.Capability;
+import feign.Client;
+
+public class FeignCallProfilingCapability implements Capability {
+
+    private final RequestProfiler requestProfiler;
+
+    public FeignCallProfilingCapability(RequestProfiler requestProfiler) {
+        this.requestProfiler = requestProfiler;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            long start = System.nanoTime();
+            try {
+                return client.execute(request, options);
+            } finally {
+                this.requestProfiler.feignCallCompleted(System.nanoTime() - start);
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package app.profiling;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Component
+public class ProfilingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private final ObjectProvider<RequestProfiler> requestProfiler;
+
+    @Autowired
+    public ProfilingDataSourcePostProcessor(ObjectProvider<RequestProfiler> requestProfiler) {
+        this.requestProfiler = requestProfiler;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || !DATA_SOURCE_BEAN_NAME.equals(beanName) || !this.requestProfiler.getObject().isEnabled()) {
+            return bean;
+        }
+
+        return ProxyDataSourceBuilder.create(beanName, dataSource)
+                .listener(new QueryExecutionListener() {
+
+                    @Override
+                    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                        requestProfiler.getObject().statementStarted();
+                    }
+
+                    @Override
+                    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                        requestProfiler.getObject().statementCompleted(queryInfoList.stream().map(QueryInfo::getQuery).toList());
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
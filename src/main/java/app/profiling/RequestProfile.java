@@ -0,0 +1,75 @@
+package app.profiling;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class RequestProfile {
+
+    private final int maxFingerprints;
+
+    private int statements;
+
+    private long dbNanos;
+
+    private int feignCalls;
+
+    private long feignNanos;
+
+    private int entitiesLoaded;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, long[]> fingerprints = new LinkedHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private long statementStart;
+
+    RequestProfile(int maxFingerprints) {
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    void statementStarted() {
+        this.statementStart = System.nanoTime();
+    }
+
+    void statementCompleted(List<String> queries) {
+        long elapsed = System.nanoTime() - this.statementStart;
+        this.statements += queries.size();
+        this.dbNanos += elapsed;
+
+        for (String query : queries) {
+            String fingerprint = StatementFingerprint.of(query);
+            long[] stats = this.fingerprints.get(fingerprint);
+            if (stats == null && this.fingerprints.size() < this.maxFingerprints) {
+                stats = new long[2];
+                this.fingerprints.put(fingerprint, stats);
+            }
+            if (stats != null) {
+                stats[0]++;
+                stats[1] += elapsed / queries.size();
+            }
+        }
+    }
+
+    void feignCallCompleted(long nanos) {
+        this.feignCalls++;
+        this.feignNanos += nanos;
+    }
+
+    void entityLoaded() {
+        this.entitiesLoaded++;
+    }
+
+    public List<String> getTopStatements(int limit) {
+        return this.fingerprints.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[1]).reversed())
+                .limit(limit)
+                .map(entry -> "%dx %.1f ms %s".formatted(entry.getValue()[0], entry.getValue()[1] / 1_000_000.0, entry.getKey()))
+                .toList();
+    }
+}
@@ -0,0 +1,60 @@
+package app.profiling;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class RequestProfiler {
+
+    private final RequestProfilerProperties properties;
+    private final ThreadLocal<RequestProfile> currentProfile = new ThreadLocal<>();
+
+    @Autowired
+    public RequestProfiler(RequestProfilerProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return this.properties.isEnabled();
+    }
+
+    public void start() {
+        this.currentProfile.set(new RequestProfile(this.properties.getMaxFingerprints()));
+    }
+
+    public RequestProfile finish() {
+        RequestProfile profile = this.currentProfile.get();
+        this.currentProfile.remove();
+        return profile;
+    }
+
+    void statementStarted() {
+        RequestProfile profile = this.currentProfile.get();
+        if (profile != null) {
+            profile.statementStarted();
+        }
+    }
+
+    void statementCompleted(List<String> queries) {
+        RequestProfile profile = this.currentProfile.get();
+        if (profile != null) {
+            profile.statementCompleted(queries);
+        }
+    }
+
+    void feignCallCompleted(long nanos) {
+        RequestProfile profile = this.currentProfile.get();
+        if (profile != null) {
+            profile.feignCallCompleted(nanos);
+        }
+    }
+
+    void entityLoaded() {
+        RequestProfile profile = this.currentProfile.get();
+        if (profile != null) {
+            profile.entityLoaded();
+        }
+    }
+}
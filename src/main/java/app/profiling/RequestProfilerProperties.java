@@ -0,0 +1,23 @@
+package app.profiling;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "profiler.requests")
+public class RequestProfilerProperties {
+
+    private boolean enabled = true;
+
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    private int slowStatementCount = 50;
+
+    private int maxFingerprints = 20;
+
+    private int topEndpoints = 10;
+
+    private Duration window = Duration.ofMinutes(5);
+}
@@ -0,0 +1,25 @@
+package app.profiling;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "requestprofiles")
+public class RequestProfilesEndpoint {
+
+    private final EndpointProfileRegistry endpointProfileRegistry;
+
+    @Autowired
+    public RequestProfilesEndpoint(EndpointProfileRegistry endpointProfileRegistry) {
+        this.endpointProfileRegistry = endpointProfileRegistry;
+    }
+
+    @ReadOperation
+    public List<EndpointProfile> worstEndpoints() {
+        return this.endpointProfileRegistry.getWorstEndpoints();
+    }
+}
@@ -0,0 +1,44 @@
+package app.profiling;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class RequestProfilingConfiguration {
+
+    @Bean
+    public FeignCallProfilingCapability feignCallProfilingCapability(RequestProfiler requestProfiler) {
+        return new FeignCallProfilingCapability(requestProfiler);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityLoadProfilingCustomizer(RequestProfiler requestProfiler) {
+        Integrator integrator = new Integrator() {
+
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+                sessionFactory.getServiceRegistry()
+                        .requireService(EventListenerRegistry.class)
+                        .appendListeners(EventType.POST_LOAD, event -> requestProfiler.entityLoaded());
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        };
+
+        return hibernateProperties -> hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(integrator));
+    }
+}
@@ -0,0 +1,108 @@
+package app.profiling;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    private static final int SLOW_REQUEST_STATEMENTS = 10;
+
+    private final RequestProfiler requestProfiler;
+    private final EndpointProfileRegistry endpointProfileRegistry;
+    private final RequestProfilerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public RequestProfilingFilter(RequestProfiler requestProfiler,
+                                  EndpointProfileRegistry endpointProfileRegistry,
+                                  RequestProfilerProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.requestProfiler = requestProfiler;
+        this.endpointProfileRegistry = endpointProfileRegistry;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !this.properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        this.requestProfiler.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            RequestProfile profile = this.requestProfiler.finish();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+            recordMetrics(request.getMethod(), uri, profile);
+
+            boolean slow = elapsed >= this.properties.getSlowThreshold().toNanos()
+                    || profile.getStatements() >= this.properties.getSlowStatementCount();
+            if (slow) {
+                logSlowRequest(request, response, elapsed, profile);
+            }
+
+            this.endpointProfileRegistry.record(request.getMethod() + " " + uri, elapsed, slow, profile);
+        }
+    }
+
+    private void recordMetrics(String method, String uri, RequestProfile profile) {
+        DistributionSummary.builder("http.server.requests.db.statements")
+                .description("SQL statements issued on the request thread per HTTP request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(this.meterRegistry)
+                .record(profile.getStatements());
+
+        Timer.builder("http.server.requests.db.time")
+                .description("Time spent executing SQL statements on the request thread per HTTP request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(this.meterRegistry)
+                .record(Duration.ofNanos(profile.getDbNanos()));
+    }
+
+    private void logSlowRequest(HttpServletRequest request, HttpServletResponse response, long elapsed, RequestProfile profile) {
+        StringBuilder statements = new StringBuilder();
+        profile.getTopStatements(SLOW_REQUEST_STATEMENTS).forEach(statement -> statements.append("\n    ").append(statement));
+
+        long elapsedMillis = Duration.ofNanos(elapsed).toMillis();
+        long dbMillis = Duration.ofNanos(profile.getDbNanos()).toMillis();
+        long feignMillis = Duration.ofNanos(profile.getFeignNanos()).toMillis();
+
+        log.atWarn()
+                .addKeyValue("http.method", request.getMethod())
+                .addKeyValue("http.uri", request.getRequestURI())
+                .addKeyValue("http.status", response.getStatus())
+                .addKeyValue("duration.ms", elapsedMillis)
+                .addKeyValue("db.statements", profile.getStatements())
+                .addKeyValue("db.ms", dbMillis)
+                .addKeyValue("feign.calls", profile.getFeignCalls())
+                .addKeyValue("feign.ms", feignMillis)
+                .addKeyValue("entities.loaded", profile.getEntitiesLoaded())
+                .log("Slow request [{} {}] returned [{}] in [{} ms]: [{}] statements in [{} ms], [{}] Feign calls in [{} ms], [{}] entities loaded.{}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(), elapsedMillis,
+                        profile.getStatements(), dbMillis, profile.getFeignCalls(), feignMillis, profile.getEntitiesLoaded(), statements);
+    }
+}
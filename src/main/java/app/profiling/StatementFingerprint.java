@@ -0,0 +1,27 @@
+package app.profiling;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+final class StatementFingerprint {
+
+    private static final int MAX_LENGTH = 200;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern SELECT_LIST = Pattern.compile("^select .+? from ", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private StatementFingerprint() {
+    }
+
+    static String of(String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("(?...)");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+        fingerprint = SELECT_LIST.matcher(fingerprint).replaceFirst("select ... from ");
+
+        return fingerprint.length() > MAX_LENGTH ? fingerprint.substring(0, MAX_LENGTH) + "..." : fingerprint;
+    }
+}
@@ -0,0 +1,58 @@
+package app.ratelimit;
+
+import app.security.AuthenticationMetaData;
+import app.subscription.model.SubscriptionType;
+import app.subscription.service.SubscriptionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final SubscriptionService subscriptionService;
+
+    @Autowired
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, SubscriptionService subscriptionService) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.subscriptionService = subscriptionService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RateLimitedOperation operation = RateLimitedOperation.resolve(request.getMethod(), request.getServletPath());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!this.properties.isEnabled() || operation == null || authentication == null
+                || !(authentication.getPrincipal() instanceof AuthenticationMetaData authenticationMetaData)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SubscriptionType subscriptionType = this.subscriptionService.getActiveSubscriptionType(authenticationMetaData.getId());
+        if (!this.rateLimiter.tryAcquire(authenticationMetaData.getId(), subscriptionType, operation)) {
+            log.warn("Rate limit exceeded for user with id [{}] on [{}].", authenticationMetaData.getId(), operation);
+
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(this.rateLimiter.getRetryAfterSeconds(authenticationMetaData.getId(), subscriptionType, operation)));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests. Please try again later.");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
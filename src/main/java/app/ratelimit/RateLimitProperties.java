@@ -0,0 +1,38 @@
+package app.ratelimit;
+
+import app.subscription.model.SubscriptionType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private long maxBuckets = 100_000;
+
+    private Duration idleBucketExpiry = Duration.ofMinutes(10);
+
+    private Map<RateLimitedOperation, Limit> global = new EnumMap<>(RateLimitedOperation.class);
+
+    private Map<SubscriptionType, Map<RateLimitedOperation, Limit>> tiers = new EnumMap<>(SubscriptionType.class);
+
+    public Limit getLimit(SubscriptionType subscriptionType, RateLimitedOperation operation) {
+        Map<RateLimitedOperation, Limit> tierLimits = this.tiers.getOrDefault(subscriptionType, this.tiers.get(SubscriptionType.DEFAULT));
+
+        return tierLimits == null ? null : tierLimits.get(operation);
+    }
+
+    @Data
+    public static class Limit {
+
+        private int capacity;
+
+        private int permitsPerMinute;
+    }
+}
@@ -0,0 +1,35 @@
+package app.ratelimit;
+
+import org.springframework.util.AntPathMatcher;
+
+public enum RateLimitedOperation {
+    TOP_UP("PUT /wallets/*/top-up", "POST /api/v1/wallets/*/top-up"),
+    TRANSFER("POST /transfers", "POST /api/v1/transfers");
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final String[] methods;
+    private final String[] pathPatterns;
+
+    RateLimitedOperation(String... endpoints) {
+        this.methods = new String[endpoints.length];
+        this.pathPatterns = new String[endpoints.length];
+        for (int i = 0; i < endpoints.length; i++) {
+            String[] methodAndPath = endpoints[i].split(" ", 2);
+            this.methods[i] = methodAndPath[0];
+            this.pathPatterns[i] = methodAndPath[1];
+        }
+    }
+
+    public static RateLimitedOperation resolve(String method, String path) {
+        for (RateLimitedOperation operation : values()) {
+            for (int i = 0; i < operation.methods.length; i++) {
+                if (operation.methods[i].equals(method) && PATH_MATCHER.match(operation.pathPatterns[i], path)) {
+                    return operation;
+                }
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,117 @@
+package app.ratelimit;
+
+import app.subscription.model.SubscriptionType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final Cache<BucketKey, TokenBucket> userBuckets;
+    private final Map<RateLimitedOperation, TokenBucket> globalBuckets = new EnumMap<>(RateLimitedOperation.class);
+    private final Map<RateLimitedOperation, Counter> allowedCounters = new EnumMap<>(RateLimitedOperation.class);
+    private final Map<RateLimitedOperation, Counter> userRejectedCounters = new EnumMap<>(RateLimitedOperation.class);
+    private final Map<RateLimitedOperation, Counter> globalRejectedCounters = new EnumMap<>(RateLimitedOperation.class);
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.userBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleBucketExpiry())
+                .build();
+
+        long now = System.nanoTime();
+        for (RateLimitedOperation operation : RateLimitedOperation.values()) {
+            RateLimitProperties.Limit globalLimit = properties.getGlobal().get(operation);
+            if (globalLimit != null) {
+                this.globalBuckets.put(operation, new TokenBucket(globalLimit.getCapacity(), globalLimit.getPermitsPerMinute(), now));
+            }
+
+            this.allowedCounters.put(operation, requestCounter(meterRegistry, operation, "allowed"));
+            this.userRejectedCounters.put(operation, requestCounter(meterRegistry, operation, "rejected_user"));
+            this.globalRejectedCounters.put(operation, requestCounter(meterRegistry, operation, "rejected_global"));
+        }
+
+        Gauge.builder("rate_limit.buckets", this.userBuckets, Cache::estimatedSize)
+                .description("Number of per-user token buckets held in memory")
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire(UUID userId, SubscriptionType subscriptionType, RateLimitedOperation operation) {
+        long now = System.nanoTime();
+
+        TokenBucket userBucket = null;
+        RateLimitProperties.Limit limit = this.properties.getLimit(subscriptionType, operation);
+        if (limit != null) {
+            userBucket = this.userBuckets.get(new BucketKey(userId, subscriptionType, operation),
+                    key -> new TokenBucket(limit.getCapacity(), limit.getPermitsPerMinute(), now));
+
+            if (!userBucket.tryAcquire(now)) {
+                this.userRejectedCounters.get(operation).increment();
+                return false;
+            }
+        }
+
+        TokenBucket globalBucket = this.globalBuckets.get(operation);
+        if (globalBucket != null && !globalBucket.tryAcquire(now)) {
+            if (userBucket != null) {
+                userBucket.release();
+            }
+            this.globalRejectedCounters.get(operation).increment();
+            return false;
+        }
+
+        this.allowedCounters.get(operation).increment();
+        return true;
+    }
+
+    public long getRetryAfterSeconds(UUID userId, SubscriptionType subscriptionType, RateLimitedOperation operation) {
+        long now = System.nanoTime();
+        long waitNanos = 0;
+
+        TokenBucket userBucket = this.userBuckets.getIfPresent(new BucketKey(userId, subscriptionType, operation));
+        if (userBucket != null) {
+            waitNanos = userBucket.getWaitNanos(now);
+        }
+
+        TokenBucket globalBucket = this.globalBuckets.get(operation);
+        if (globalBucket != null) {
+            waitNanos = Math.max(waitNanos, globalBucket.getWaitNanos(now));
+        }
+
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, RateLimitedOperation operation, String outcome) {
+        return Counter.builder("rate_limit.requests")
+                .description("Money-movement requests checked by the rate limiter")
+                .tag("operation", operation.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class BucketKey {
+
+        private final UUID userId;
+
+        private final SubscriptionType subscriptionType;
+
+        private final RateLimitedOperation operation;
+    }
+}
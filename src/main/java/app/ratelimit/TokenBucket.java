@@ -0,0 +1,44 @@
+package app.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucket {
+
+    private final long permitIntervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong nextRefillNanos;
+
+    public TokenBucket(int capacity, int permitsPerMinute, long nowNanos) {
+        this.permitIntervalNanos = TimeUnit.MINUTES.toNanos(1) / permitsPerMinute;
+        this.capacityNanos = this.permitIntervalNanos * capacity;
+        this.nextRefillNanos = new AtomicLong(nowNanos);
+    }
+
+    public boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long current = this.nextRefillNanos.get();
+            long next = Math.max(current, nowNanos) + this.permitIntervalNanos;
+
+            if (next - nowNanos > this.capacityNanos) {
+                return false;
+            }
+
+            if (this.nextRefillNanos.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        this.nextRefillNanos.addAndGet(-this.permitIntervalNanos);
+    }
+
+    public long getWaitNanos(long nowNanos) {
+        return Math.max(0, this.nextRefillNanos.get() + this.permitIntervalNanos - this.capacityNanos - nowNanos);
+    }
+
+    public long getPermitIntervalNanos() {
+        return permitIntervalNanos;
+    }
+}
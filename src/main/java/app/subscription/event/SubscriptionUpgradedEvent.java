@@ -0,0 +1,18 @@
+package app.subscription.event;
+
+import app.subscription.model.SubscriptionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class SubscriptionUpgradedEvent {
+
+    private UUID subscriptionId;
+
+    private UUID ownerId;
+
+    private SubscriptionType type;
+}
@@ -0,0 +1,29 @@
+package app.subscription.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class SubscriptionSummary {
+
+    private UUID id;
+
+    private SubscriptionType type;
+
+    private SubscriptionStatus status;
+
+    private SubscriptionPeriod period;
+
+    private BigDecimal price;
+
+    private boolean renewalAllowed;
+
+    private LocalDateTime createdOn;
+
+    private LocalDateTime completedOn;
+}
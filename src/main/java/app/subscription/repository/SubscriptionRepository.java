@@ -2,11 +2,35 @@ package app.subscription.repository;
 
 import app.subscription.model.Subscription;
 import app.subscription.model.SubscriptionStatus;
+import app.subscription.model.SubscriptionSummary;
+import app.subscription.model.SubscriptionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface SubscriptionRepository extends JpaRepository<Subscription, UUID> {
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "subscriptionPlans")
+    })
     Optional<Subscription> findByStatusAndOwnerId(SubscriptionStatus status, UUID ownerId);
+
+    @Query("select s.type from Subscription s where s.owner.id = :ownerId and s.status = app.subscription.model.SubscriptionStatus.ACTIVE")
+    Optional<SubscriptionType> findActiveSubscriptionTypeByOwnerId(@Param("ownerId") UUID ownerId);
+
+    @Query("""
+            select new app.subscription.model.SubscriptionSummary(
+                s.id, s.type, s.status, s.period, s.price, s.renewalAllowed, s.createdOn, s.completedOn)
+            from Subscription s
+            where s.owner.id = :ownerId
+            order by s.createdOn desc
+            """)
+    List<SubscriptionSummary> findAllSummariesByOwnerId(@Param("ownerId") UUID ownerId);
 }
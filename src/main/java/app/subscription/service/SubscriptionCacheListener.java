@@ -0,0 +1,15 @@
+package app.subscription.service;
+
+import app.subscription.event.SubscriptionUpgradedEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class SubscriptionCacheListener {
+
+    @CacheEvict(cacheNames = "activeSubscriptionTypes", key = "#event.ownerId")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionUpgraded(SubscriptionUpgradedEvent event) {
+    }
+}
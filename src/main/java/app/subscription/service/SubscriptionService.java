@@ -1,44 +1,72 @@
 package app.subscription.service;
 
 import app.exception.DomainException;
+import app.metrics.TimedMoneyMovement;
+import app.money.Money;
+import app.subscription.event.SubscriptionUpgradedEvent;
 import app.subscription.model.Subscription;
 import app.subscription.model.SubscriptionPeriod;
 import app.subscription.model.SubscriptionStatus;
+import app.subscription.model.SubscriptionSummary;
 import app.subscription.model.SubscriptionType;
 import app.subscription.repository.SubscriptionRepository;
 import app.transaction.model.Transaction;
+import app.transaction.model.TransactionDescription;
 import app.transaction.model.TransactionStatus;
 import app.user.model.User;
 import app.wallet.service.WalletService;
 import app.web.dto.UpgradeRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Service
 public class SubscriptionService {
 
+    private static final Money FREE = Money.zero(Money.EUR);
+    private static final Money PREMIUM_MONTHLY_PRICE = Money.ofMinor(1999, Money.EUR);
+    private static final Money PREMIUM_YEARLY_PRICE = Money.ofMinor(19999, Money.EUR);
+    private static final Money ULTIMATE_MONTHLY_PRICE = Money.ofMinor(4999, Money.EUR);
+    private static final Money ULTIMATE_YEARLY_PRICE = Money.ofMinor(49999, Money.EUR);
+    private static final Map<SubscriptionPeriod, Map<SubscriptionType, TransactionDescription>> PURCHASE_DESCRIPTIONS = new EnumMap<>(SubscriptionPeriod.class);
+
+    static {
+        for (SubscriptionPeriod period : SubscriptionPeriod.values()) {
+            Map<SubscriptionType, TransactionDescription> descriptions = new EnumMap<>(SubscriptionType.class);
+            for (SubscriptionType type : SubscriptionType.values()) {
+                descriptions.put(type, TransactionDescription.of("Purchase of " + capitalize(period.name()) + " " + capitalize(type.name()) + " subscription"));
+            }
+            PURCHASE_DESCRIPTIONS.put(period, descriptions);
+        }
+    }
+
     private final SubscriptionRepository subscriptionRepository;
     private final WalletService walletService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public SubscriptionService(SubscriptionRepository subscriptionRepository, WalletService walletService) {
+    public SubscriptionService(SubscriptionRepository subscriptionRepository, WalletService walletService, ApplicationEventPublisher eventPublisher) {
         this.subscriptionRepository = subscriptionRepository;
         this.walletService = walletService;
+        this.eventPublisher = eventPublisher;
     }
 
     public void createDefaultSubscription(User user) {
         Subscription subscription = initializeSubscription(user);
 
         this.subscriptionRepository.save(subscription);
-        log.info("Successfully created new subscription with id [%s] and type [%s]."
-                .formatted(subscription.getId(), subscription.getType().name()));
+        log.info("Successfully created new subscription with id [{}] and type [{}].", subscription.getId(), subscription.getType());
     }
 
     private Subscription initializeSubscription(User user) {
@@ -49,7 +77,7 @@ public class SubscriptionService {
                 .status(SubscriptionStatus.ACTIVE)
                 .period(SubscriptionPeriod.MONTHLY)
                 .type(SubscriptionType.DEFAULT)
-                .price(new BigDecimal("0.00"))
+                .price(FREE.toBigDecimal())
                 .renewalAllowed(true)
                 .createdOn(now)
                 .completedOn(now.plusMonths(1))
@@ -57,6 +85,7 @@ public class SubscriptionService {
     }
 
     @Transactional
+    @TimedMoneyMovement("subscription_upgrade")
     public Transaction upgrade(User user, UpgradeRequest upgradeRequest, SubscriptionType subscriptionType) {
         Optional<Subscription> optionalSubscription = this.subscriptionRepository.findByStatusAndOwnerId(SubscriptionStatus.ACTIVE, user.getId());
         if (optionalSubscription.isEmpty()) {
@@ -66,16 +95,13 @@ public class SubscriptionService {
         Subscription currentSubscription = optionalSubscription.get();
 
         SubscriptionPeriod subscriptionPeriod = upgradeRequest.getSubscriptionPeriod();
-        BigDecimal subscriptionPrice = getSubscriptionPrice(subscriptionPeriod, subscriptionType);
+        Money subscriptionPrice = getSubscriptionPrice(subscriptionPeriod, subscriptionType);
 
-        String subscriptionTypeFormatted = subscriptionType.name().substring(0, 1).toUpperCase() + subscriptionType.name().substring(1).toLowerCase();
-        String subscriptionPeriodFormatted = subscriptionPeriod.name().substring(0, 1).toUpperCase() + subscriptionPeriod.name().substring(1).toLowerCase();
-
-        String chargeDescription = "Purchase of %s %s subscription".formatted(subscriptionPeriodFormatted, subscriptionTypeFormatted);
+        TransactionDescription chargeDescription = PURCHASE_DESCRIPTIONS.get(subscriptionPeriod).get(subscriptionType);
         Transaction charge = this.walletService.charge(user, upgradeRequest.getWalletId(), subscriptionPrice, chargeDescription);
 
         if (charge.getStatus() == TransactionStatus.FAILED) {
-            log.warn("Charge for subscription failed for user %s".formatted(user.getId()));
+            log.warn("Charge for subscription failed for user {}", user.getId());
             return charge;
         }
 
@@ -92,7 +118,7 @@ public class SubscriptionService {
                 .status(SubscriptionStatus.ACTIVE)
                 .period(subscriptionPeriod)
                 .type(subscriptionType)
-                .price(subscriptionPrice)
+                .price(subscriptionPrice.toBigDecimal())
                 .renewalAllowed(subscriptionPeriod == SubscriptionPeriod.MONTHLY)
                 .createdOn(now)
                 .completedOn(completedOn)
@@ -103,21 +129,36 @@ public class SubscriptionService {
 
         this.subscriptionRepository.save(currentSubscription);
         this.subscriptionRepository.save(newSubscription);
+        eventPublisher.publishEvent(new SubscriptionUpgradedEvent(newSubscription.getId(), user.getId(), subscriptionType));
 
         return charge;
     }
 
-    private BigDecimal getSubscriptionPrice(SubscriptionPeriod subscriptionPeriod, SubscriptionType subscriptionType) {
+    @Transactional(readOnly = true)
+    public List<SubscriptionSummary> getSummariesByOwnerId(UUID ownerId) {
+        return this.subscriptionRepository.findAllSummariesByOwnerId(ownerId);
+    }
+
+    @Cacheable(cacheNames = "activeSubscriptionTypes", key = "#userId")
+    public SubscriptionType getActiveSubscriptionType(UUID userId) {
+        return this.subscriptionRepository.findActiveSubscriptionTypeByOwnerId(userId).orElse(SubscriptionType.DEFAULT);
+    }
+
+    private Money getSubscriptionPrice(SubscriptionPeriod subscriptionPeriod, SubscriptionType subscriptionType) {
         if (subscriptionType == SubscriptionType.DEFAULT) {
-            return BigDecimal.ZERO;
+            return FREE;
         } else if (subscriptionType == SubscriptionType.PREMIUM && subscriptionPeriod == SubscriptionPeriod.MONTHLY) {
-            return new BigDecimal("19.99");
+            return PREMIUM_MONTHLY_PRICE;
         } else if (subscriptionType == SubscriptionType.PREMIUM && subscriptionPeriod == SubscriptionPeriod.YEARLY) {
-            return new BigDecimal("199.99");
+            return PREMIUM_YEARLY_PRICE;
         } else if (subscriptionType == SubscriptionType.ULTIMATE && subscriptionPeriod == SubscriptionPeriod.MONTHLY) {
-            return new BigDecimal("49.99");
+            return ULTIMATE_MONTHLY_PRICE;
         } else {
-            return new BigDecimal("499.99");
+            return ULTIMATE_YEARLY_PRICE;
         }
     }
+
+    private static String capitalize(String name) {
+        return name.charAt(0) + name.substring(1).toLowerCase();
+    }
 }
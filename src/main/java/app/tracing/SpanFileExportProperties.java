@@ -0,0 +1,18 @@
+package app.tracing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@Data
+@ConfigurationProperties(prefix = "tracing.export.file")
+public class SpanFileExportProperties {
+
+    private boolean enabled = true;
+
+    private Path path = Path.of("logs/spans.jsonl");
+
+    private DataSize maxSize = DataSize.ofMegabytes(50);
+}
@@ -0,0 +1,32 @@
+package app.tracing;
+
+import io.micrometer.observation.ObservationPredicate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@Configuration
+public class TracingConfiguration {
+
+    private static final String LIVE_UPDATES_PATH = "/live";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing.export.file", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FileSpanExporter fileSpanExporter(SpanFileExportProperties properties) {
+        return new FileSpanExporter(properties.getPath(), properties.getMaxSize().toBytes());
+    }
+
+    @Bean
+    public ObservationPredicate skipLiveUpdateStreams() {
+        return (name, context) -> {
+            if (context instanceof ServerRequestObservationContext serverContext) {
+                return !LIVE_UPDATES_PATH.equals(serverContext.getCarrier().getRequestURI());
+            }
+            return !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                    && LIVE_UPDATES_PATH.equals(attributes.getRequest().getRequestURI()));
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package app.transaction.event;
+
+import app.transaction.model.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TransactionRecordedEvent {
+
+    private UUID ownerId;
+
+    private Transaction transaction;
+}
@@ -1,5 +1,6 @@
 package app.transaction.model;
 
+import app.persistence.TimeOrderedId;
 import app.user.model.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -18,7 +19,7 @@ import java.util.UUID;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @ManyToOne
@@ -54,4 +55,6 @@ public class Transaction {
 
     @Column(nullable = false)
     private LocalDateTime createdOn;
+
+    private LocalDateTime rehydratedOn;
 }
@@ -0,0 +1,44 @@
+package app.transaction.model;
+
+import app.money.Money;
+
+import java.util.function.Supplier;
+
+public final class TransactionDescription {
+
+    private final Supplier<String> renderer;
+    private String rendered;
+
+    private TransactionDescription(Supplier<String> renderer) {
+        this.renderer = renderer;
+    }
+
+    private TransactionDescription(String rendered) {
+        this.renderer = null;
+        this.rendered = rendered;
+    }
+
+    public static TransactionDescription of(String description) {
+        return new TransactionDescription(description);
+    }
+
+    public static TransactionDescription topUp(Money amount) {
+        return new TransactionDescription(() -> "Top up " + amount.toPlainString());
+    }
+
+    public static TransactionDescription transfer(String senderUsername, String receiverUsername, Money amount) {
+        return new TransactionDescription(() -> "Transfer from " + senderUsername + " to " + receiverUsername + ", for " + amount + ".");
+    }
+
+    public String render() {
+        if (this.rendered == null) {
+            this.rendered = this.renderer.get();
+        }
+        return this.rendered;
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+}
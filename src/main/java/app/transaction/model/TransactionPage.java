@@ -0,0 +1,15 @@
+package app.transaction.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TransactionPage {
+
+    private List<TransactionSummary> items;
+
+    private String nextCursor;
+}
@@ -0,0 +1,26 @@
+package app.transaction.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TransactionReceipt {
+
+    private UUID transactionId;
+
+    private TransactionStatus status;
+
+    private BigDecimal amount;
+
+    private Currency currency;
+
+    private String failureReason;
+
+    private LocalDateTime createdOn;
+}
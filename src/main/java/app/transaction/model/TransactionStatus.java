@@ -1,5 +1,5 @@
 package app.transaction.model;
 
 public enum TransactionStatus {
-    SUCCEEDED, FAILED
+    PENDING, SUCCEEDED, FAILED
 }
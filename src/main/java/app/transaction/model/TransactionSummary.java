@@ -0,0 +1,36 @@
+package app.transaction.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TransactionSummary {
+
+    private UUID id;
+
+    private String sender;
+
+    private String receiver;
+
+    private TransactionType type;
+
+    private TransactionStatus status;
+
+    private BigDecimal amount;
+
+    private BigDecimal balanceLeft;
+
+    private Currency currency;
+
+    private String description;
+
+    private String failureReason;
+
+    private LocalDateTime createdOn;
+}
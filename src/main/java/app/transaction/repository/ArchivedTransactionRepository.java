@@ -0,0 +1,45 @@
+package app.transaction.repository;
+
+import app.transaction.model.ArchivedTransaction;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ArchivedTransactionRepository extends JpaRepository<ArchivedTransaction, UUID> {
+
+    List<ArchivedTransaction> findAllByOwnerIdOrderByCreatedOnDesc(UUID id);
+
+    List<ArchivedTransaction> findAllByOwnerIdAndCreatedOnGreaterThanEqualOrderByCreatedOnDesc(UUID id, LocalDateTime from);
+
+    @Query("select a.id from ArchivedTransaction a where a.createdOn >= :from order by a.createdOn")
+    List<UUID> findIdsCreatedFrom(@Param("from") LocalDateTime from, Limit limit);
+
+    @Modifying
+    @Query("""
+            insert into ArchivedTransaction (id, owner, sender, receiver, amount, balanceLeft, currency, type, status, description, failureReason, createdOn, archivedOn)
+            select t.id, t.owner, t.sender, t.receiver, t.amount, t.balanceLeft, t.currency, t.type, t.status, t.description, t.failureReason, t.createdOn, :archivedOn
+            from Transaction t
+            where t.id in :ids
+            """)
+    int archiveAllByIdIn(@Param("ids") Collection<UUID> ids, @Param("archivedOn") LocalDateTime archivedOn);
+
+    @Modifying
+    @Query("""
+            insert into Transaction (id, owner, sender, receiver, amount, balanceLeft, currency, type, status, description, failureReason, createdOn, rehydratedOn)
+            select a.id, a.owner, a.sender, a.receiver, a.amount, a.balanceLeft, a.currency, a.type, a.status, a.description, a.failureReason, a.createdOn, :rehydratedOn
+            from ArchivedTransaction a
+            where a.id in :ids
+            """)
+    int rehydrateAllByIdIn(@Param("ids") Collection<UUID> ids, @Param("rehydratedOn") LocalDateTime rehydratedOn);
+
+    @Modifying
+    @Query("delete from ArchivedTransaction a where a.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
+}
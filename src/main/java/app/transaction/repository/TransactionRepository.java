@@ -1,14 +1,77 @@
 package app.transaction.repository;
 
 import app.transaction.model.Transaction;
+import app.transaction.model.TransactionReceipt;
+import app.transaction.model.TransactionSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
 
     List<Transaction> findAllByOwnerIdOrderByCreatedOnDesc(UUID id);
 
+    List<Transaction> findAllByOwnerIdAndCreatedOnGreaterThanEqualOrderByCreatedOnDesc(UUID id, LocalDateTime from);
+
     List<Transaction> findAllBySenderOrReceiverOrderByCreatedOnDesc(String sender, String receiver);
+
+    @Query("""
+            select new app.transaction.model.TransactionSummary(
+                t.id, t.sender, t.receiver, t.type, t.status, t.amount, t.balanceLeft, t.currency,
+                t.description, t.failureReason, t.createdOn)
+            from Transaction t
+            where t.owner.id = :ownerId
+            order by t.createdOn desc, t.id desc
+            """)
+    List<TransactionSummary> findSummariesByOwnerId(@Param("ownerId") UUID ownerId, Limit limit);
+
+    @Query("""
+            select new app.transaction.model.TransactionSummary(
+                t.id, t.sender, t.receiver, t.type, t.status, t.amount, t.balanceLeft, t.currency,
+                t.description, t.failureReason, t.createdOn)
+            from Transaction t
+            where t.owner.id = :ownerId
+              and (t.createdOn < :createdOn or (t.createdOn = :createdOn and t.id < :id))
+            order by t.createdOn desc, t.id desc
+            """)
+    List<TransactionSummary> findSummariesByOwnerIdBefore(@Param("ownerId") UUID ownerId,
+                                                          @Param("createdOn") LocalDateTime createdOn,
+                                                          @Param("id") UUID id,
+                                                          Limit limit);
+
+    @Query("""
+            select new app.transaction.model.TransactionSummary(
+                t.id, t.sender, t.receiver, t.type, t.status, t.amount, t.balanceLeft, t.currency,
+                t.description, t.failureReason, t.createdOn)
+            from Transaction t
+            where t.id = :id and t.owner.id = :ownerId
+            """)
+    Optional<TransactionSummary> findSummaryByIdAndOwnerId(@Param("id") UUID id, @Param("ownerId") UUID ownerId);
+
+    @Query("""
+            select new app.transaction.model.TransactionReceipt(t.id, t.status, t.amount, t.currency, t.failureReason, t.createdOn)
+            from Transaction t
+            where t.id = :id and t.owner.id = :ownerId
+            """)
+    Optional<TransactionReceipt> findReceiptByIdAndOwnerId(@Param("id") UUID id, @Param("ownerId") UUID ownerId);
+
+    @Query("""
+            select t.id from Transaction t
+            where t.createdOn < :createdBefore
+              and (t.rehydratedOn is null or t.rehydratedOn < :rehydratedBefore)
+            order by t.createdOn
+            """)
+    List<UUID> findArchivableIds(@Param("createdBefore") LocalDateTime createdBefore, @Param("rehydratedBefore") LocalDateTime rehydratedBefore, Limit limit);
+
+    @Modifying
+    @Query("delete from Transaction t where t.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
 }
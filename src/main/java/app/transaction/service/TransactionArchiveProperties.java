@@ -0,0 +1,19 @@
+package app.transaction.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "transactions.archive")
+public class TransactionArchiveProperties {
+
+    private boolean enabled = false;
+
+    private Duration horizon = Duration.ofDays(365);
+
+    private Duration rehydrationRetention = Duration.ofDays(30);
+
+    private int batchSize = 500;
+}
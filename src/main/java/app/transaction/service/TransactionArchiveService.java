@@ -0,0 +1,139 @@
+package app.transaction.service;
+
+import app.transaction.model.ArchivedTransaction;
+import app.transaction.model.Transaction;
+import app.transaction.repository.ArchivedTransactionRepository;
+import app.transaction.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class TransactionArchiveService {
+
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final TransactionArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public TransactionArchiveService(TransactionRepository transactionRepository,
+                                     ArchivedTransactionRepository archivedTransactionRepository,
+                                     TransactionArchiveProperties properties,
+                                     PlatformTransactionManager transactionManager) {
+        this.transactionRepository = transactionRepository;
+        this.archivedTransactionRepository = archivedTransactionRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public LocalDateTime getHotHistoryStart() {
+        if (!this.properties.isEnabled()) {
+            return null;
+        }
+
+        return LocalDateTime.now().minus(this.properties.getHorizon());
+    }
+
+    public boolean isArchiveNeeded(LocalDateTime from) {
+        if (!this.properties.isEnabled()) {
+            return false;
+        }
+
+        return from == null || from.isBefore(LocalDateTime.now().minus(this.properties.getHorizon()));
+    }
+
+    public List<Transaction> getArchivedByOwnerId(UUID ownerId, LocalDateTime from) {
+        List<ArchivedTransaction> archivedTransactions = from == null
+                ? this.archivedTransactionRepository.findAllByOwnerIdOrderByCreatedOnDesc(ownerId)
+                : this.archivedTransactionRepository.findAllByOwnerIdAndCreatedOnGreaterThanEqualOrderByCreatedOnDesc(ownerId, from);
+
+        return archivedTransactions.stream()
+                .map(this::toTransaction)
+                .toList();
+    }
+
+    public Optional<Transaction> getArchivedById(UUID id) {
+        return this.archivedTransactionRepository.findById(id).map(this::toTransaction);
+    }
+
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void archiveExpiredTransactions() {
+        if (!this.properties.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdBefore = now.minus(this.properties.getHorizon());
+        LocalDateTime rehydratedBefore = now.minus(this.properties.getRehydrationRetention());
+
+        int archivedTransactions = 0;
+        int batchSize;
+        do {
+            batchSize = this.transactionTemplate.execute(status -> {
+                List<UUID> ids = this.transactionRepository.findArchivableIds(createdBefore, rehydratedBefore, Limit.of(this.properties.getBatchSize()));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+
+                this.archivedTransactionRepository.archiveAllByIdIn(ids, now);
+                this.transactionRepository.deleteAllByIdIn(ids);
+                return ids.size();
+            });
+            archivedTransactions += batchSize;
+        } while (batchSize == this.properties.getBatchSize());
+
+        log.info("Archived [{}] transactions created before [{}].", archivedTransactions, createdBefore);
+    }
+
+    public int rehydrate(LocalDateTime from) {
+        LocalDateTime now = LocalDateTime.now();
+
+        int rehydratedTransactions = 0;
+        int batchSize;
+        do {
+            batchSize = this.transactionTemplate.execute(status -> {
+                List<UUID> ids = this.archivedTransactionRepository.findIdsCreatedFrom(from, Limit.of(this.properties.getBatchSize()));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+
+                this.archivedTransactionRepository.rehydrateAllByIdIn(ids, now);
+                this.archivedTransactionRepository.deleteAllByIdIn(ids);
+                return ids.size();
+            });
+            rehydratedTransactions += batchSize;
+        } while (batchSize == this.properties.getBatchSize());
+
+        log.info("Rehydrated [{}] archived transactions created on or after [{}].", rehydratedTransactions, from);
+        return rehydratedTransactions;
+    }
+
+    private Transaction toTransaction(ArchivedTransaction archivedTransaction) {
+        return Transaction.builder()
+                .id(archivedTransaction.getId())
+                .owner(archivedTransaction.getOwner())
+                .sender(archivedTransaction.getSender())
+                .receiver(archivedTransaction.getReceiver())
+                .amount(archivedTransaction.getAmount())
+                .balanceLeft(archivedTransaction.getBalanceLeft())
+                .currency(archivedTransaction.getCurrency())
+                .type(archivedTransaction.getType())
+                .status(archivedTransaction.getStatus())
+                .description(archivedTransaction.getDescription())
+                .failureReason(archivedTransaction.getFailureReason())
+                .createdOn(archivedTransaction.getCreatedOn())
+                .build();
+    }
+}
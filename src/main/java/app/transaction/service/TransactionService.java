@@ -1,63 +1,182 @@
 package app.transaction.service;
 
 import app.exception.DomainException;
+import app.exception.ResourceNotFoundException;
+import app.money.Money;
 import app.notification.service.NotificationService;
+import app.transaction.event.TransactionRecordedEvent;
 import app.transaction.model.Transaction;
+import app.transaction.model.TransactionDescription;
+import app.transaction.model.TransactionPage;
+import app.transaction.model.TransactionReceipt;
 import app.transaction.model.TransactionStatus;
+import app.transaction.model.TransactionSummary;
 import app.transaction.model.TransactionType;
 import app.transaction.repository.TransactionRepository;
 import app.user.model.User;
 import app.wallet.model.Wallet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.Currency;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
+@Observed(name = "transaction.service")
 public class TransactionService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = "|";
+
     private final TransactionRepository transactionRepository;
     private final NotificationService notificationService;
+    private final TransactionArchiveService transactionArchiveService;
+    private final Map<TransactionType, Map<TransactionStatus, Counter>> recordedCounters = new EnumMap<>(TransactionType.class);
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public TransactionService(TransactionRepository transactionRepository, NotificationService notificationService) {
+    public TransactionService(TransactionRepository transactionRepository,
+                              NotificationService notificationService,
+                              TransactionArchiveService transactionArchiveService,
+                              MeterRegistry meterRegistry,
+                              ApplicationEventPublisher eventPublisher) {
         this.transactionRepository = transactionRepository;
         this.notificationService = notificationService;
+        this.transactionArchiveService = transactionArchiveService;
+        this.eventPublisher = eventPublisher;
+
+        for (TransactionType type : TransactionType.values()) {
+            Map<TransactionStatus, Counter> countersByStatus = new EnumMap<>(TransactionStatus.class);
+            for (TransactionStatus status : TransactionStatus.values()) {
+                countersByStatus.put(status, Counter.builder("transactions.recorded")
+                        .description("Transactions recorded, by type and status")
+                        .tag("type", type.name())
+                        .tag("status", status.name())
+                        .register(meterRegistry));
+            }
+            this.recordedCounters.put(type, countersByStatus);
+        }
     }
 
-    public Transaction createNewTransaction(User owner, String sender, String receiver, BigDecimal amount, BigDecimal balanceLeft, Currency currency, TransactionType transactionType, TransactionStatus transactionStatus, String transactionDescription, String failureReason) {
+    @Transactional
+    public Transaction createNewTransaction(User owner, String sender, String receiver, Money amount, Money balanceLeft, TransactionType transactionType, TransactionStatus transactionStatus, TransactionDescription transactionDescription, String failureReason) {
         Transaction transaction = Transaction.builder()
                 .owner(owner)
                 .sender(sender)
                 .receiver(receiver)
-                .amount(amount)
-                .balanceLeft(balanceLeft)
-                .currency(currency)
+                .amount(amount.toBigDecimal())
+                .balanceLeft(balanceLeft.toBigDecimal())
+                .currency(amount.getCurrency())
                 .type(transactionType)
                 .status(transactionStatus)
-                .description(transactionDescription)
+                .description(transactionDescription.render())
                 .failureReason(failureReason)
                 .createdOn(LocalDateTime.now())
                 .build();
 
-        String emailBody = "%s transaction was successfully processed for you with amount %.2f EUR!".formatted(transaction.getType(), transaction.getAmount());
+        String emailBody = transactionType + " transaction was successfully processed for you with amount " + amount + "!";
         notificationService.sendNotification(transaction.getOwner().getId(), "Money Transfer", emailBody);
 
+        this.recordedCounters.get(transactionType).get(transactionStatus).increment();
+
         this.transactionRepository.save(transaction);
+
+        this.eventPublisher.publishEvent(new TransactionRecordedEvent(owner.getId(), transaction));
         return transaction;
     }
 
+    @Transactional(readOnly = true)
     public List<Transaction> getAllByOwnerId(UUID ownerId) {
-        return this.transactionRepository.findAllByOwnerIdOrderByCreatedOnDesc(ownerId);
+        return getAllByOwnerIdSince(ownerId, null, true);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Transaction> getAllByOwnerIdSince(UUID ownerId, LocalDateTime from, boolean includeArchived) {
+        List<Transaction> transactions = from == null
+                ? this.transactionRepository.findAllByOwnerIdOrderByCreatedOnDesc(ownerId)
+                : this.transactionRepository.findAllByOwnerIdAndCreatedOnGreaterThanEqualOrderByCreatedOnDesc(ownerId, from);
+
+        if (!includeArchived || !this.transactionArchiveService.isArchiveNeeded(from)) {
+            return transactions;
+        }
+
+        List<Transaction> archivedTransactions = this.transactionArchiveService.getArchivedByOwnerId(ownerId, from);
+        if (archivedTransactions.isEmpty()) {
+            return transactions;
+        }
+
+        return Stream.concat(transactions.stream(), archivedTransactions.stream())
+                .sorted(Comparator.comparing(Transaction::getCreatedOn).reversed())
+                .toList();
     }
 
+    @Transactional(readOnly = true)
     public Transaction getById(UUID id) {
-        return this.transactionRepository.findById(id).orElseThrow(() -> new DomainException(
-                "Transaction with [%s] does not exist.".formatted(id)));
+        return this.transactionRepository.findById(id)
+                .or(() -> this.transactionArchiveService.getArchivedById(id))
+                .orElseThrow(() -> new DomainException("Transaction with [%s] does not exist.".formatted(id)));
+    }
+
+    @Transactional(readOnly = true)
+    public TransactionPage getPageByOwnerId(UUID ownerId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<TransactionSummary> transactions;
+        if (cursor == null || cursor.isBlank()) {
+            transactions = this.transactionRepository.findSummariesByOwnerId(ownerId, limit);
+        } else {
+            Map.Entry<LocalDateTime, UUID> last = decodeCursor(cursor);
+            transactions = this.transactionRepository.findSummariesByOwnerIdBefore(ownerId, last.getKey(), last.getValue(), limit);
+        }
+
+        if (transactions.size() <= pageSize) {
+            return new TransactionPage(transactions, null);
+        }
+
+        List<TransactionSummary> page = transactions.subList(0, pageSize);
+        return new TransactionPage(page, encodeCursor(page.get(pageSize - 1)));
+    }
+
+    @Transactional(readOnly = true)
+    public TransactionSummary getSummaryByIdAndOwnerId(UUID id, UUID ownerId) {
+        return this.transactionRepository.findSummaryByIdAndOwnerId(id, ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Transaction with [%s] does not exist.".formatted(id)));
+    }
+
+    @Transactional(readOnly = true)
+    public TransactionReceipt getReceiptByIdAndOwnerId(UUID id, UUID ownerId) {
+        return this.transactionRepository.findReceiptByIdAndOwnerId(id, ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Transaction with [%s] does not exist.".formatted(id)));
+    }
+
+    private static String encodeCursor(TransactionSummary transaction) {
+        String cursor = transaction.getCreatedOn() + CURSOR_SEPARATOR + transaction.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map.Entry<LocalDateTime, UUID> decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(CURSOR_SEPARATOR);
+            return Map.entry(LocalDateTime.parse(decoded.substring(0, separator)), UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new DomainException("Cursor [%s] is not valid.".formatted(cursor), e);
+        }
     }
 
     public List<Transaction> getLastFourTransactionsByWallet(Wallet wallet) {
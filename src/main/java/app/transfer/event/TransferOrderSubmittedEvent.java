@@ -0,0 +1,15 @@
+package app.transfer.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TransferOrderSubmittedEvent {
+
+    private UUID transferOrderId;
+
+    private UUID fromWalletId;
+}
@@ -0,0 +1,48 @@
+package app.transfer.model;
+
+import app.persistence.TimeOrderedId;
+import app.transaction.model.TransactionStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+public class TransferOrder {
+
+    @Id
+    @TimeOrderedId
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID senderId;
+
+    @Column(nullable = false)
+    private UUID fromWalletId;
+
+    @Column(nullable = false)
+    private String usernameReceiver;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TransactionStatus status;
+
+    private UUID transactionId;
+
+    private String failureReason;
+
+    @Column(nullable = false)
+    private LocalDateTime createdOn;
+
+    private LocalDateTime processedOn;
+}
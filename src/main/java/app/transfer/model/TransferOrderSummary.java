@@ -0,0 +1,32 @@
+package app.transfer.model;
+
+import app.transaction.model.TransactionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TransferOrderSummary {
+
+    private UUID id;
+
+    private UUID fromWalletId;
+
+    private String usernameReceiver;
+
+    private BigDecimal amount;
+
+    private TransactionStatus status;
+
+    private UUID transactionId;
+
+    private String failureReason;
+
+    private LocalDateTime createdOn;
+
+    private LocalDateTime processedOn;
+}
@@ -0,0 +1,34 @@
+package app.transfer.repository;
+
+import app.transaction.model.TransactionStatus;
+import app.transfer.model.TransferOrder;
+import app.transfer.model.TransferOrderSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TransferOrderRepository extends JpaRepository<TransferOrder, UUID> {
+
+    Optional<TransferOrder> findByIdAndSenderId(UUID id, UUID senderId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from TransferOrder o where o.id = :id")
+    Optional<TransferOrder> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query("""
+            select new app.transfer.model.TransferOrderSummary(
+                o.id, o.fromWalletId, o.usernameReceiver, o.amount, o.status, o.transactionId,
+                o.failureReason, o.createdOn, o.processedOn)
+            from TransferOrder o
+            where o.id = :id and o.senderId = :senderId
+            """)
+    Optional<TransferOrderSummary> findSummaryByIdAndSenderId(@Param("id") UUID id, @Param("senderId") UUID senderId);
+
+    List<TransferOrder> findAllByStatusOrderByCreatedOnAsc(TransactionStatus status);
+}
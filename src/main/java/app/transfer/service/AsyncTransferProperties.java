@@ -0,0 +1,13 @@
+package app.transfer.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "transfers.async")
+public class AsyncTransferProperties {
+
+    private boolean enabled = false;
+
+    private int partitions = 4;
+}
@@ -0,0 +1,86 @@
+package app.transfer.service;
+
+import app.transfer.event.TransferOrderSubmittedEvent;
+import app.transfer.model.TransferOrder;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class TransferOrderDispatcher {
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOT_FACTORY = ContextSnapshotFactory.builder().build();
+
+    private final TransferOrderService transferOrderService;
+    private final AsyncTransferProperties properties;
+    private final ExecutorService[] partitions;
+
+    @Autowired
+    public TransferOrderDispatcher(TransferOrderService transferOrderService, AsyncTransferProperties properties) {
+        this.transferOrderService = transferOrderService;
+        this.properties = properties;
+        this.partitions = new ExecutorService[properties.getPartitions()];
+
+        for (int i = 0; i < this.partitions.length; i++) {
+            String threadName = "transfer-partition-" + i;
+            this.partitions[i] = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, threadName));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransferOrderSubmitted(TransferOrderSubmittedEvent event) {
+        dispatch(event.getTransferOrderId(), event.getFromWalletId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPendingOrders() {
+        if (!this.properties.isEnabled()) {
+            return;
+        }
+
+        List<TransferOrder> pendingOrders = this.transferOrderService.getAllPending();
+        pendingOrders.forEach(order -> dispatch(order.getId(), order.getFromWalletId()));
+
+        if (!pendingOrders.isEmpty()) {
+            log.info("Re-dispatched [{}] pending transfer orders.", pendingOrders.size());
+        }
+    }
+
+    private void dispatch(UUID transferOrderId, UUID fromWalletId) {
+        int partition = Math.floorMod(fromWalletId.hashCode(), this.partitions.length);
+
+        this.partitions[partition].execute(CONTEXT_SNAPSHOT_FACTORY.captureAll().wrap(() -> process(transferOrderId)));
+    }
+
+    private void process(UUID transferOrderId) {
+        try {
+            this.transferOrderService.process(transferOrderId);
+        } catch (Exception e) {
+            log.warn("Transfer order with id [{}] failed: {}", transferOrderId, e.getMessage());
+            this.transferOrderService.markFailed(transferOrderId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService partition : this.partitions) {
+            partition.shutdown();
+        }
+
+        for (ExecutorService partition : this.partitions) {
+            partition.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package app.transfer.service;
+
+import app.exception.DomainException;
+import app.exception.ResourceNotFoundException;
+import app.transaction.model.Transaction;
+import app.transaction.model.TransactionStatus;
+import app.transfer.event.TransferOrderSubmittedEvent;
+import app.transfer.model.TransferOrder;
+import app.transfer.model.TransferOrderSummary;
+import app.transfer.repository.TransferOrderRepository;
+import app.user.model.User;
+import app.user.service.UserService;
+import app.wallet.service.WalletService;
+import app.web.dto.TransferRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class TransferOrderService {
+
+    private final TransferOrderRepository transferOrderRepository;
+    private final UserService userService;
+    private final WalletService walletService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public TransferOrderService(TransferOrderRepository transferOrderRepository,
+                                UserService userService,
+                                WalletService walletService,
+                                ApplicationEventPublisher eventPublisher) {
+        this.transferOrderRepository = transferOrderRepository;
+        this.userService = userService;
+        this.walletService = walletService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public TransferOrder submit(User sender, TransferRequest transferRequest) {
+        TransferOrder transferOrder = TransferOrder.builder()
+                .senderId(sender.getId())
+                .fromWalletId(transferRequest.getFromWalletId())
+                .usernameReceiver(transferRequest.getUsernameReceiver())
+                .amount(transferRequest.getAmount())
+                .status(TransactionStatus.PENDING)
+                .createdOn(LocalDateTime.now())
+                .build();
+
+        this.transferOrderRepository.save(transferOrder);
+        eventPublisher.publishEvent(new TransferOrderSubmittedEvent(transferOrder.getId(), transferOrder.getFromWalletId()));
+
+        return transferOrder;
+    }
+
+    @Transactional
+    public void process(UUID transferOrderId) {
+        TransferOrder transferOrder = getByIdForUpdate(transferOrderId);
+        if (transferOrder.getStatus() != TransactionStatus.PENDING) {
+            return;
+        }
+
+        User sender = this.userService.getById(transferOrder.getSenderId());
+        TransferRequest transferRequest = TransferRequest.builder()
+                .fromWalletId(transferOrder.getFromWalletId())
+                .usernameReceiver(transferOrder.getUsernameReceiver())
+                .amount(transferOrder.getAmount())
+                .build();
+
+        Transaction transaction = this.walletService.transferFunds(sender, transferRequest);
+
+        transferOrder.setStatus(transaction.getStatus());
+        transferOrder.setTransactionId(transaction.getId());
+        transferOrder.setFailureReason(transaction.getFailureReason());
+        transferOrder.setProcessedOn(LocalDateTime.now());
+        this.transferOrderRepository.save(transferOrder);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(UUID transferOrderId, String failureReason) {
+        TransferOrder transferOrder = getByIdForUpdate(transferOrderId);
+        if (transferOrder.getStatus() != TransactionStatus.PENDING) {
+            return;
+        }
+
+        transferOrder.setStatus(TransactionStatus.FAILED);
+        transferOrder.setFailureReason(failureReason);
+        transferOrder.setProcessedOn(LocalDateTime.now());
+        this.transferOrderRepository.save(transferOrder);
+    }
+
+    public List<TransferOrder> getAllPending() {
+        return this.transferOrderRepository.findAllByStatusOrderByCreatedOnAsc(TransactionStatus.PENDING);
+    }
+
+    public TransferOrder getByIdAndSenderId(UUID transferOrderId, UUID senderId) {
+        return this.transferOrderRepository.findByIdAndSenderId(transferOrderId, senderId).orElseThrow(() ->
+                new DomainException("Transfer order with id [%s] does not exist.".formatted(transferOrderId)));
+    }
+
+    @Transactional(readOnly = true)
+    public TransferOrderSummary getSummaryByIdAndSenderId(UUID transferOrderId, UUID senderId) {
+        return this.transferOrderRepository.findSummaryByIdAndSenderId(transferOrderId, senderId).orElseThrow(() ->
+                new ResourceNotFoundException("Transfer order with id [%s] does not exist.".formatted(transferOrderId)));
+    }
+
+    private TransferOrder getByIdForUpdate(UUID transferOrderId) {
+        return this.transferOrderRepository.findByIdForUpdate(transferOrderId).orElseThrow(() ->
+                new DomainException("Transfer order with id [%s] does not exist.".formatted(transferOrderId)));
+    }
+}
@@ -0,0 +1,13 @@
+package app.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class UserProfileChangedEvent {
+
+    private UUID userId;
+}
@@ -0,0 +1,58 @@
+package app.user.model;
+
+import app.subscription.model.SubscriptionPeriod;
+import app.subscription.model.SubscriptionStatus;
+import app.subscription.model.SubscriptionType;
+import app.wallet.model.WalletStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class HomeDashboard {
+
+    private UUID userId;
+
+    private String username;
+
+    private String email;
+
+    private String profilePicture;
+
+    private UserRole role;
+
+    private Country country;
+
+    private boolean active;
+
+    private LocalDateTime createdOn;
+
+    private UUID walletId;
+
+    private WalletStatus walletStatus;
+
+    private BigDecimal walletBalance;
+
+    private Currency walletCurrency;
+
+    private LocalDateTime walletUpdatedOn;
+
+    private UUID subscriptionId;
+
+    private SubscriptionType subscriptionType;
+
+    private SubscriptionStatus subscriptionStatus;
+
+    private SubscriptionPeriod subscriptionPeriod;
+
+    private BigDecimal subscriptionPrice;
+
+    private boolean subscriptionRenewalAllowed;
+
+    private LocalDateTime subscriptionCompletedOn;
+}
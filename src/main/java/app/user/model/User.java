@@ -1,5 +1,6 @@
 package app.user.model;
 
+import app.persistence.TimeOrderedId;
 import app.subscription.model.Subscription;
 import app.wallet.model.Wallet;
 import jakarta.persistence.*;
@@ -17,7 +18,7 @@ import java.util.UUID;
 @Entity
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -49,6 +50,9 @@ public class User {
     @Column(nullable = false)
     private LocalDateTime updatedOn;
 
+    @Column(nullable = false, updatable = false)
+    private long contentVersion;
+
     @OneToMany(mappedBy = "owner", fetch = FetchType.EAGER)
     @OrderBy("createdOn DESC")
     private List<Subscription> subscriptions = new ArrayList<>();
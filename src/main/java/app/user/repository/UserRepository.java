@@ -1,13 +1,39 @@
 package app.user.repository;
 
+import app.user.model.HomeDashboard;
 import app.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username);
+
+    @Query("""
+            select new app.user.model.HomeDashboard(
+                u.id, u.username, u.email, u.profilePicture, u.role, u.country, u.isActive, u.createdOn,
+                w.id, w.status, w.balance, w.currency, w.updatedOn,
+                s.id, s.type, s.status, s.period, s.price, s.renewalAllowed, s.completedOn)
+            from User u
+            join Wallet w on w.owner = u
+            join Subscription s on s.owner = u
+            where u.id = :userId
+              and s.status = app.subscription.model.SubscriptionStatus.ACTIVE
+              and w.createdOn = (select min(w2.createdOn) from Wallet w2 where w2.owner = u)
+            """)
+    Optional<HomeDashboard> findHomeDashboardByUserId(@Param("userId") UUID userId);
+
+    @Query("select u.contentVersion from User u where u.id = :userId")
+    Optional<Long> findContentVersionById(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query("update User u set u.contentVersion = u.contentVersion + 1 where u.id in :userIds")
+    int incrementContentVersions(@Param("userIds") Collection<UUID> userIds);
 }
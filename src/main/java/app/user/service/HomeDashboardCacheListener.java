@@ -0,0 +1,33 @@
+package app.user.service;
+
+import app.subscription.event.SubscriptionUpgradedEvent;
+import app.user.event.UserProfileChangedEvent;
+import app.wallet.event.WalletBalanceChangedEvent;
+import app.wallet.event.WalletStatusChangedEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class HomeDashboardCacheListener {
+
+    @CacheEvict(cacheNames = "homeDashboards", key = "#event.ownerId")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWalletBalanceChanged(WalletBalanceChangedEvent event) {
+    }
+
+    @CacheEvict(cacheNames = "homeDashboards", key = "#event.ownerId")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWalletStatusChanged(WalletStatusChangedEvent event) {
+    }
+
+    @CacheEvict(cacheNames = "homeDashboards", key = "#event.ownerId")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionUpgraded(SubscriptionUpgradedEvent event) {
+    }
+
+    @CacheEvict(cacheNames = "homeDashboards", key = "#event.userId")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+    }
+}
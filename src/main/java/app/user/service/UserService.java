@@ -4,6 +4,8 @@ import app.exception.DomainException;
 import app.notification.service.NotificationService;
 import app.security.AuthenticationMetaData;
 import app.subscription.service.SubscriptionService;
+import app.user.event.UserProfileChangedEvent;
+import app.user.model.HomeDashboard;
 import app.user.model.User;
 import app.user.model.UserRole;
 import app.user.repository.UserRepository;
@@ -12,6 +14,8 @@ import app.web.dto.RegisterRequest;
 import app.wallet.service.WalletService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -32,17 +36,20 @@ public class UserService implements UserDetailsService {
     private final SubscriptionService subscriptionService;
     private final WalletService walletService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public UserService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
                        SubscriptionService service,
-                       WalletService walletService, NotificationService notificationService) {
+                       WalletService walletService, NotificationService notificationService,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.subscriptionService = service;
         this.walletService = walletService;
         this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -61,8 +68,7 @@ public class UserService implements UserDetailsService {
 
         notificationService.saveNotificationPreference(user.getId(), false, null);
 
-        log.info("Successfully created new user account for username [%s] and [%s]."
-                .formatted(user.getUsername(), user.getId()));
+        log.info("Successfully created new user account for username [{}] and [{}].", user.getUsername(), user.getId());
 
         return user;
     }
@@ -87,6 +93,7 @@ public class UserService implements UserDetailsService {
         }
 
         this.userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
     }
 
     private User initializeUser(RegisterRequest registerRequest) {
@@ -101,20 +108,29 @@ public class UserService implements UserDetailsService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return this.userRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public User getById(UUID id) {
         return this.userRepository.findById(id).orElseThrow(() ->
                 new DomainException("User with id [%s] does not exist.".formatted(id)));
     }
 
+    @Cacheable(cacheNames = "homeDashboards", key = "#userId")
+    public HomeDashboard getHomeDashboard(UUID userId) {
+        return this.userRepository.findHomeDashboardByUserId(userId).orElseThrow(() ->
+                new DomainException("Dashboard for user with id [%s] cannot be loaded.".formatted(userId)));
+    }
+
     public void switchStatus(UUID id) {
         User user = getById(id);
 
         user.setActive(!user.isActive());
         this.userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(id));
     }
 
     public void switchRole(UUID id) {
@@ -127,6 +143,7 @@ public class UserService implements UserDetailsService {
         }
 
         this.userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(id));
     }
 
     @Override
@@ -0,0 +1,100 @@
+package app.user.service;
+
+import app.subscription.event.SubscriptionUpgradedEvent;
+import app.transaction.event.TransactionRecordedEvent;
+import app.user.event.UserProfileChangedEvent;
+import app.user.repository.UserRepository;
+import app.wallet.event.WalletBalanceChangedEvent;
+import app.wallet.event.WalletCreatedEvent;
+import app.wallet.event.WalletStatusChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+@Service
+public class UserVersionService {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public UserVersionService(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public String getVersion(UUID userId) {
+        return Long.toString(this.userRepository.findContentVersionById(userId).orElse(0L));
+    }
+
+    public void bump(UUID userId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.transactionTemplate.executeWithoutResult(status -> this.userRepository.incrementContentVersions(List.of(userId)));
+            return;
+        }
+
+        pendingBumps().add(userId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<UUID> pendingBumps() {
+        Set<UUID> userIds = (Set<UUID>) TransactionSynchronizationManager.getResource(this);
+        if (userIds != null) {
+            return userIds;
+        }
+
+        Set<UUID> pending = new TreeSet<>();
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                userRepository.incrementContentVersions(pending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(UserVersionService.this);
+            }
+        });
+        return pending;
+    }
+
+    @EventListener
+    public void onWalletBalanceChanged(WalletBalanceChangedEvent event) {
+        bump(event.getOwnerId());
+    }
+
+    @EventListener
+    public void onWalletStatusChanged(WalletStatusChangedEvent event) {
+        bump(event.getOwnerId());
+    }
+
+    @EventListener
+    public void onWalletCreated(WalletCreatedEvent event) {
+        bump(event.getOwnerId());
+    }
+
+    @EventListener
+    public void onTransactionRecorded(TransactionRecordedEvent event) {
+        bump(event.getOwnerId());
+    }
+
+    @EventListener
+    public void onSubscriptionUpgraded(SubscriptionUpgradedEvent event) {
+        bump(event.getOwnerId());
+    }
+
+    @EventListener
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        bump(event.getUserId());
+    }
+}
@@ -0,0 +1,168 @@
+package app.wallet.engine;
+
+import app.exception.DomainException;
+import app.money.Money;
+import app.wallet.repository.WalletRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class BalanceEngine {
+
+    private final BalanceEngineProperties properties;
+    private final WalletRepository walletRepository;
+    private final BalancePartition[] partitions;
+
+    @Autowired
+    public BalanceEngine(BalanceEngineProperties properties, WalletRepository walletRepository) {
+        this.properties = properties;
+        this.walletRepository = walletRepository;
+
+        int partitionCount = properties.isEnabled() ? properties.getPartitions() : 0;
+        int maxCachedWallets = Math.max(1, properties.getMaxCachedWallets() / Math.max(1, partitionCount));
+        this.partitions = new BalancePartition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            this.partitions[i] = new BalancePartition(i, maxCachedWallets);
+        }
+
+        if (partitionCount > 0) {
+            log.info("Started balance engine with [{}] partitions.", partitionCount);
+        }
+    }
+
+    public boolean isEnabled() {
+        return this.partitions.length > 0;
+    }
+
+    public void lock(UUID... walletIds) {
+        UnitOfWork unitOfWork = currentUnitOfWork();
+        Arrays.stream(walletIds)
+                .sorted(Comparator.comparingInt(walletId -> partitionOf(walletId).getIndex()))
+                .forEach(walletId -> unitOfWork.acquire(partitionOf(walletId), walletId));
+    }
+
+    public BalanceResult withdraw(UUID walletId, Money amount) {
+        return apply(walletId, amount.negate(), true);
+    }
+
+    public BalanceResult deposit(UUID walletId, Money amount) {
+        return apply(walletId, amount, false);
+    }
+
+    private BalanceResult apply(UUID walletId, Money delta, boolean sufficientFundsRequired) {
+        UnitOfWork unitOfWork = currentUnitOfWork();
+        BalancePartition partition = partitionOf(walletId);
+        unitOfWork.acquire(partition, walletId);
+
+        Money knownBalance = unitOfWork.balances.containsKey(walletId) ? unitOfWork.balances.get(walletId) : partition.getBalance(walletId);
+        if (knownBalance != null && knownBalance.getCurrency().equals(delta.getCurrency())) {
+            Money newBalance = knownBalance.plus(delta);
+            boolean sufficientFunds = !sufficientFundsRequired || newBalance.signum() >= 0;
+            if (sufficientFunds && updateBalance(walletId, knownBalance, newBalance)) {
+                unitOfWork.balances.put(walletId, newBalance);
+                return new BalanceResult(true, newBalance);
+            }
+
+            log.debug("Known balance of wallet with id [{}] is stale or insufficient, reloading it.", walletId);
+        }
+
+        Money balance = loadBalance(walletId, delta);
+        unitOfWork.balances.put(walletId, balance);
+
+        Money newBalance = balance.plus(delta);
+        if (sufficientFundsRequired && newBalance.signum() < 0) {
+            return new BalanceResult(false, balance);
+        }
+
+        if (!updateBalance(walletId, balance, newBalance)) {
+            throw new IllegalStateException("Locked balance of wallet with id [%s] changed concurrently.".formatted(walletId));
+        }
+
+        unitOfWork.balances.put(walletId, newBalance);
+        return new BalanceResult(true, newBalance);
+    }
+
+    private boolean updateBalance(UUID walletId, Money expectedBalance, Money newBalance) {
+        return this.walletRepository.updateBalanceIfUnchanged(walletId, expectedBalance.toBigDecimal(), newBalance.toBigDecimal(), LocalDateTime.now()) == 1;
+    }
+
+    private Money loadBalance(UUID walletId, Money delta) {
+        return this.walletRepository.findBalanceByIdForUpdate(walletId)
+                .map(balance -> Money.of(balance, delta.getCurrency()))
+                .orElseThrow(() -> new DomainException("Wallet with id [%s] does not exist.".formatted(walletId)));
+    }
+
+    private BalancePartition partitionOf(UUID walletId) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("Balance engine is not enabled.");
+        }
+
+        return this.partitions[Math.floorMod(walletId.hashCode(), this.partitions.length)];
+    }
+
+    private UnitOfWork currentUnitOfWork() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Balance engine changes must run inside a transaction.");
+        }
+
+        UnitOfWork unitOfWork = (UnitOfWork) TransactionSynchronizationManager.getResource(this);
+        if (unitOfWork == null) {
+            unitOfWork = new UnitOfWork();
+            TransactionSynchronizationManager.bindResource(this, unitOfWork);
+            TransactionSynchronizationManager.registerSynchronization(unitOfWork);
+        }
+        return unitOfWork;
+    }
+
+    private final class UnitOfWork implements TransactionSynchronization {
+
+        private final TreeSet<BalancePartition> heldPartitions = new TreeSet<>(Comparator.comparingInt(BalancePartition::getIndex));
+        private final Map<UUID, Money> balances = new HashMap<>();
+
+        private void acquire(BalancePartition partition, UUID walletId) {
+            if (this.heldPartitions.contains(partition)) {
+                return;
+            }
+
+            try {
+                if (!partition.acquire(properties.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new DomainException("Wallet with id [%s] is too busy. Please try again later.".formatted(walletId));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DomainException("Interrupted while waiting for wallet with id [%s].".formatted(walletId), e);
+            }
+
+            this.heldPartitions.add(partition);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BalanceEngine.this);
+
+            for (Map.Entry<UUID, Money> balance : this.balances.entrySet()) {
+                BalancePartition partition = partitionOf(balance.getKey());
+                if (status == STATUS_COMMITTED) {
+                    partition.putBalance(balance.getKey(), balance.getValue());
+                } else {
+                    partition.forgetBalance(balance.getKey());
+                }
+            }
+
+            this.heldPartitions.forEach(BalancePartition::release);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package app.wallet.engine;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "wallets.engine")
+public class BalanceEngineProperties {
+
+    private boolean enabled = false;
+
+    private int partitions = 4;
+
+    private int maxCachedWallets = 100_000;
+
+    private Duration acquireTimeout = Duration.ofSeconds(1);
+}
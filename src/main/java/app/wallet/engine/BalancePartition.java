@@ -0,0 +1,50 @@
+package app.wallet.engine;
+
+import app.money.Money;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+class BalancePartition {
+
+    private final int index;
+    private final ReentrantLock writer = new ReentrantLock(true);
+    private final Map<UUID, Money> balances;
+
+    BalancePartition(int index, int maxCachedWallets) {
+        this.index = index;
+        this.balances = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Money> eldest) {
+                return size() > maxCachedWallets;
+            }
+        };
+    }
+
+    int getIndex() {
+        return this.index;
+    }
+
+    boolean acquire(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.writer.tryLock(timeout, unit);
+    }
+
+    void release() {
+        this.writer.unlock();
+    }
+
+    Money getBalance(UUID walletId) {
+        return this.balances.get(walletId);
+    }
+
+    void putBalance(UUID walletId, Money balance) {
+        this.balances.put(walletId, balance);
+    }
+
+    void forgetBalance(UUID walletId) {
+        this.balances.remove(walletId);
+    }
+}
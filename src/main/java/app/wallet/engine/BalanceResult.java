@@ -0,0 +1,14 @@
+package app.wallet.engine;
+
+import app.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BalanceResult {
+
+    private boolean applied;
+
+    private Money balance;
+}
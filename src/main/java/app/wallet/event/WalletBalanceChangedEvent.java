@@ -0,0 +1,18 @@
+package app.wallet.event;
+
+import app.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class WalletBalanceChangedEvent {
+
+    private UUID walletId;
+
+    private UUID ownerId;
+
+    private Money balance;
+}
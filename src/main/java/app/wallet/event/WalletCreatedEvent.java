@@ -0,0 +1,17 @@
+package app.wallet.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class WalletCreatedEvent {
+
+    private UUID walletId;
+
+    private UUID ownerId;
+
+    private String ownerUsername;
+}
@@ -0,0 +1,20 @@
+package app.wallet.event;
+
+import app.wallet.model.WalletStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class WalletStatusChangedEvent {
+
+    private UUID walletId;
+
+    private UUID ownerId;
+
+    private String ownerUsername;
+
+    private WalletStatus status;
+}
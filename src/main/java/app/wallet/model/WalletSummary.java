@@ -0,0 +1,26 @@
+package app.wallet.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class WalletSummary {
+
+    private UUID id;
+
+    private WalletStatus status;
+
+    private BigDecimal balance;
+
+    private Currency currency;
+
+    private LocalDateTime createdOn;
+
+    private LocalDateTime updatedOn;
+}
@@ -1,8 +1,17 @@
 package app.wallet.repository;
 
 import app.wallet.model.Wallet;
+import app.wallet.model.WalletSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,4 +21,39 @@ public interface WalletRepository extends JpaRepository<Wallet, UUID> {
     List<Wallet> findAllWalletsByOwnerUsername(String username);
 
     Optional<Wallet> findByIdAndOwnerId(UUID walletId, UUID ownerId);
+
+    boolean existsByIdAndOwnerId(UUID walletId, UUID ownerId);
+
+    @Query("""
+            select new app.wallet.model.WalletSummary(w.id, w.status, w.balance, w.currency, w.createdOn, w.updatedOn)
+            from Wallet w
+            where w.owner.id = :ownerId
+            order by w.createdOn asc
+            """)
+    List<WalletSummary> findAllSummariesByOwnerId(@Param("ownerId") UUID ownerId);
+
+    @Query("select w from Wallet w where w.id = :walletId")
+    Optional<Wallet> findCurrentById(@Param("walletId") UUID walletId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from Wallet w where w.id = :walletId")
+    Optional<Wallet> findByIdForUpdate(@Param("walletId") UUID walletId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w.balance from Wallet w where w.id = :walletId")
+    Optional<BigDecimal> findBalanceByIdForUpdate(@Param("walletId") UUID walletId);
+
+    @Modifying
+    @Query("update Wallet w set w.balance = :newBalance, w.updatedOn = :updatedOn where w.id = :walletId and w.balance = :expectedBalance")
+    int updateBalanceIfUnchanged(@Param("walletId") UUID walletId,
+                                 @Param("expectedBalance") BigDecimal expectedBalance,
+                                 @Param("newBalance") BigDecimal newBalance,
+                                 @Param("updatedOn") LocalDateTime updatedOn);
+
+    @Query("""
+            select w.id from Wallet w
+            where w.owner.username = :username and w.status = app.wallet.model.WalletStatus.ACTIVE
+            order by w.createdOn asc
+            """)
+    Optional<UUID> findPrimaryActiveWalletIdByOwnerUsername(@Param("username") String username, Limit limit);
 }
@@ -0,0 +1,40 @@
+package app.wallet.service;
+
+import app.wallet.event.WalletCreatedEvent;
+import app.wallet.event.WalletStatusChangedEvent;
+import app.wallet.repository.WalletRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class PrimaryWalletResolver {
+
+    private final WalletRepository walletRepository;
+
+    @Autowired
+    public PrimaryWalletResolver(WalletRepository walletRepository) {
+        this.walletRepository = walletRepository;
+    }
+
+    @Cacheable(cacheNames = "primaryActiveWallets", key = "#username", unless = "#result == null")
+    public Optional<UUID> getPrimaryActiveWalletId(String username) {
+        return this.walletRepository.findPrimaryActiveWalletIdByOwnerUsername(username, Limit.of(1));
+    }
+
+    @CacheEvict(cacheNames = "primaryActiveWallets", key = "#event.ownerUsername")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWalletStatusChanged(WalletStatusChangedEvent event) {
+    }
+
+    @CacheEvict(cacheNames = "primaryActiveWallets", key = "#event.ownerUsername")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWalletCreated(WalletCreatedEvent event) {
+    }
+}
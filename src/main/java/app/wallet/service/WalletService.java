@@ -1,94 +1,128 @@
 package app.wallet.service;
 
 import app.exception.DomainException;
+import app.fx.service.FxRateService;
+import app.metrics.TimedMoneyMovement;
+import app.money.Money;
 import app.subscription.model.Subscription;
 import app.subscription.model.SubscriptionType;
 import app.transaction.model.Transaction;
+import app.transaction.model.TransactionDescription;
 import app.transaction.model.TransactionStatus;
 import app.transaction.model.TransactionType;
 import app.transaction.service.TransactionService;
 import app.user.model.User;
+import app.wallet.engine.BalanceEngine;
+import app.wallet.engine.BalanceResult;
+import app.wallet.event.WalletBalanceChangedEvent;
+import app.wallet.event.WalletCreatedEvent;
+import app.wallet.event.WalletStatusChangedEvent;
 import app.wallet.model.Wallet;
 import app.wallet.model.WalletStatus;
+import app.wallet.model.WalletSummary;
 import app.wallet.repository.WalletRepository;
 import app.web.dto.TransferRequest;
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
 @Slf4j
 @Service
+@Observed(name = "wallet.service")
 public class WalletService {
 
     private static final String SMART_WALLET_LTD = "Smart Wallet Ltd";
+    private static final Money INITIAL_BALANCE = Money.ofMinor(2000, Money.EUR);
 
     private final WalletRepository walletRepository;
     private final TransactionService transactionService;
+    private final PrimaryWalletResolver primaryWalletResolver;
+    private final BalanceEngine balanceEngine;
+    private final FxRateService fxRateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public WalletService(WalletRepository walletRepository,
-                         TransactionService transactionService) {
+                         TransactionService transactionService,
+                         PrimaryWalletResolver primaryWalletResolver,
+                         BalanceEngine balanceEngine,
+                         FxRateService fxRateService,
+                         ApplicationEventPublisher eventPublisher) {
         this.walletRepository = walletRepository;
         this.transactionService = transactionService;
+        this.primaryWalletResolver = primaryWalletResolver;
+        this.balanceEngine = balanceEngine;
+        this.fxRateService = fxRateService;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional
+    @TimedMoneyMovement("transfer")
     public Transaction transferFunds(User sender, TransferRequest transferRequest) {
-        Wallet senderWallet = getWalletById(transferRequest.getFromWalletId());
+        Optional<UUID> receiverWalletId = this.primaryWalletResolver.getPrimaryActiveWalletId(transferRequest.getUsernameReceiver());
+        lockWallets(transferRequest.getFromWalletId(), receiverWalletId);
+
+        Wallet senderWallet = getWalletForUpdate(transferRequest.getFromWalletId());
+        Money amount = Money.of(transferRequest.getAmount(), senderWallet.getCurrency());
 
-        Optional<Wallet> optionalWallet = this.walletRepository
-                .findAllWalletsByOwnerUsername(transferRequest.getUsernameReceiver())
-                .stream().filter(wallet -> wallet.getStatus() == WalletStatus.ACTIVE)
-                .findFirst();
+        Optional<Wallet> optionalWallet = receiverWalletId
+                .flatMap(this::findWalletForUpdate)
+                .filter(wallet -> wallet.getStatus() == WalletStatus.ACTIVE);
 
-        String description = "Transfer from %s to %s, for %.2f EUR."
-                .formatted(sender.getUsername(), transferRequest.getUsernameReceiver(), transferRequest.getAmount());
+        TransactionDescription description = TransactionDescription.transfer(sender.getUsername(), transferRequest.getUsernameReceiver(), amount);
 
         if (optionalWallet.isEmpty()) {
             return transactionService.createNewTransaction(sender,
                     senderWallet.getId().toString(),
                     transferRequest.getUsernameReceiver(),
-                    transferRequest.getAmount(),
-                    senderWallet.getBalance(),
-                    senderWallet.getCurrency(),
+                    amount,
+                    balanceOf(senderWallet),
                     TransactionType.WITHDRAWAL,
                     TransactionStatus.FAILED,
                     description,
                     "Invalid criteria for transfer");
         }
 
-        Transaction withdrawal = charge(sender, senderWallet.getId(), transferRequest.getAmount(), description);
+        Transaction withdrawal = charge(sender, senderWallet.getId(), amount, description);
 
         if (withdrawal.getStatus() == TransactionStatus.FAILED) {
             return withdrawal;
         }
 
         Wallet receiverWallet = optionalWallet.get();
-        receiverWallet.setBalance(receiverWallet.getBalance().add(transferRequest.getAmount()));
-        receiverWallet.setUpdatedOn(LocalDateTime.now());
+        Money receivedAmount = this.fxRateService.convert(amount, receiverWallet.getCurrency());
+        Money receiverBalance = deposit(receiverWallet, receivedAmount);
 
-        this.walletRepository.save(receiverWallet);
-
-        return transactionService.createNewTransaction(receiverWallet.getOwner(),
+        transactionService.createNewTransaction(receiverWallet.getOwner(),
                 senderWallet.getId().toString(),
                 receiverWallet.getId().toString(),
-                transferRequest.getAmount(),
-                receiverWallet.getBalance(),
-                receiverWallet.getCurrency(),
+                receivedAmount,
+                receiverBalance,
                 TransactionType.DEPOSIT,
                 TransactionStatus.SUCCEEDED,
                 description,
                 null);
+
+        return withdrawal;
     }
 
     @Transactional
-    public Transaction charge(User user, UUID walletId, BigDecimal amount, String description) {
-        Wallet wallet = getWalletById(walletId);
+    @TimedMoneyMovement("charge")
+    public Transaction charge(User user, UUID walletId, Money price, TransactionDescription description) {
+        Wallet wallet = getWalletForUpdate(walletId);
+        Money amount = this.fxRateService.convert(price, wallet.getCurrency());
 
+        if (this.balanceEngine.isEnabled() && wallet.getStatus() == WalletStatus.ACTIVE) {
+            return chargeThroughBalanceEngine(user, wallet, amount, description);
+        }
+
+        Money balance = balanceOf(wallet);
         String failureReason = null;
         boolean transactionFailed = false;
         if (wallet.getStatus() == WalletStatus.INACTIVE) {
@@ -96,7 +130,7 @@ public class WalletService {
             transactionFailed = true;
         }
 
-        if (wallet.getBalance().compareTo(amount) < 0) {
+        if (balance.isLessThan(amount)) {
             failureReason = "Insufficient funds";
             transactionFailed = true;
         }
@@ -107,8 +141,7 @@ public class WalletService {
                     wallet.getId().toString(),
                     SMART_WALLET_LTD,
                     amount,
-                    wallet.getBalance(),
-                    wallet.getCurrency(),
+                    balance,
                     TransactionType.WITHDRAWAL,
                     TransactionStatus.FAILED,
                     description,
@@ -116,17 +149,18 @@ public class WalletService {
             );
         }
 
-        wallet.setBalance(wallet.getBalance().subtract(amount));
+        Money newBalance = balance.minus(amount);
+        wallet.setBalance(newBalance.toBigDecimal());
         wallet.setUpdatedOn(LocalDateTime.now());
         this.walletRepository.save(wallet);
+        publishBalanceChanged(wallet, newBalance);
 
         return this.transactionService.createNewTransaction(
                 user,
                 wallet.getId().toString(),
                 SMART_WALLET_LTD,
                 amount,
-                wallet.getBalance(),
-                wallet.getCurrency(),
+                newBalance,
                 TransactionType.WITHDRAWAL,
                 TransactionStatus.SUCCEEDED,
                 description,
@@ -134,47 +168,65 @@ public class WalletService {
         );
     }
 
+    private Transaction chargeThroughBalanceEngine(User user, Wallet wallet, Money amount, TransactionDescription description) {
+        BalanceResult result = this.balanceEngine.withdraw(wallet.getId(), amount);
+        if (result.isApplied()) {
+            publishBalanceChanged(wallet, result.getBalance());
+        }
+
+        return this.transactionService.createNewTransaction(
+                user,
+                wallet.getId().toString(),
+                SMART_WALLET_LTD,
+                amount,
+                result.getBalance(),
+                TransactionType.WITHDRAWAL,
+                result.isApplied() ? TransactionStatus.SUCCEEDED : TransactionStatus.FAILED,
+                description,
+                result.isApplied() ? null : "Insufficient funds"
+        );
+    }
+
     @Transactional
-    public Transaction topUp(UUID walletId, BigDecimal amount) {
-        Optional<Wallet> optionalWallet = this.walletRepository.findById(walletId);
+    @TimedMoneyMovement("top_up")
+    public Transaction topUp(UUID walletId, Money topUpAmount) {
+        Optional<Wallet> optionalWallet = findWalletForUpdate(walletId);
         if (optionalWallet.isEmpty()) {
             throw new DomainException("Wallet with id [%s] does not exist.".formatted(walletId));
         }
 
         Wallet wallet = optionalWallet.get();
-        String transactionDescription = "Top up %.2f".formatted(amount.doubleValue());
+        Money amount = this.fxRateService.convert(topUpAmount, wallet.getCurrency());
+        TransactionDescription transactionDescription = TransactionDescription.topUp(amount);
 
         if (wallet.getStatus() == WalletStatus.INACTIVE) {
             return this.transactionService.createNewTransaction(wallet.getOwner(),
                     SMART_WALLET_LTD,
                     walletId.toString(),
                     amount,
-                    wallet.getBalance(),
-                    wallet.getCurrency(),
+                    balanceOf(wallet),
                     TransactionType.DEPOSIT,
                     TransactionStatus.FAILED,
                     transactionDescription,
                     "Inactive wallet");
         }
 
-        wallet.setBalance(wallet.getBalance().add(amount));
-        wallet.setUpdatedOn(LocalDateTime.now());
-
-        walletRepository.save(wallet);
+        Money balance = deposit(wallet, amount);
 
         return transactionService.createNewTransaction(wallet.getOwner(),
                 SMART_WALLET_LTD,
                 walletId.toString(),
                 amount,
-                wallet.getBalance(),
-                wallet.getCurrency(),
+                balance,
                 TransactionType.DEPOSIT,
                 TransactionStatus.SUCCEEDED,
                 transactionDescription,
                 null);
     }
 
-    public void createNewWallet(User user) {
+    public void createNewWallet(User user, Currency currency) {
+        this.fxRateService.requireSupported(currency);
+
         List<Wallet> allWallets = this.walletRepository.findAllWalletsByOwnerUsername(user.getUsername());
         Subscription activeSubscription = user.getSubscriptions().get(0);
 
@@ -189,13 +241,14 @@ public class WalletService {
         Wallet wallet = Wallet.builder()
                 .owner(user)
                 .status(WalletStatus.ACTIVE)
-                .balance(new BigDecimal(0))
-                .currency(Currency.getInstance("EUR"))
+                .balance(Money.zero(currency).toBigDecimal())
+                .currency(currency)
                 .createdOn(LocalDateTime.now())
                 .updatedOn(LocalDateTime.now())
                 .build();
 
         this.walletRepository.save(wallet);
+        eventPublisher.publishEvent(new WalletCreatedEvent(wallet.getId(), user.getId(), user.getUsername()));
     }
 
     public void createDefaultWallet(User user) {
@@ -206,8 +259,8 @@ public class WalletService {
             Wallet wallet = initializeWallet(user);
 
         this.walletRepository.save(wallet);
-        log.info("Successfully created new wallet with id [%s] and balance [%.2f]."
-                .formatted(wallet.getId(), wallet.getBalance()));
+        eventPublisher.publishEvent(new WalletCreatedEvent(wallet.getId(), user.getId(), user.getUsername()));
+        log.info("Successfully created new wallet with id [{}] and balance [{}].", wallet.getId(), wallet.getBalance());
 
     }
 
@@ -215,18 +268,31 @@ public class WalletService {
         return Wallet.builder()
                 .owner(user)
                 .status(WalletStatus.ACTIVE)
-                .balance(new BigDecimal("20.00"))
-                .currency(Currency.getInstance("EUR"))
+                .balance(INITIAL_BALANCE.toBigDecimal())
+                .currency(INITIAL_BALANCE.getCurrency())
                 .createdOn(LocalDateTime.now())
                 .updatedOn(LocalDateTime.now())
                 .build();
     }
 
-    private Wallet getWalletById(UUID walletId) {
-        return this.walletRepository.findById(walletId).orElseThrow(() ->
+    private void lockWallets(UUID senderWalletId, Optional<UUID> receiverWalletId) {
+        if (this.balanceEngine.isEnabled()) {
+            this.balanceEngine.lock(receiverWalletId.map(receiverId -> new UUID[]{senderWalletId, receiverId}).orElse(new UUID[]{senderWalletId}));
+        } else if (receiverWalletId.isPresent() && receiverWalletId.get().compareTo(senderWalletId) < 0) {
+            this.walletRepository.findByIdForUpdate(receiverWalletId.get());
+        }
+    }
+
+    private Wallet getWalletForUpdate(UUID walletId) {
+        return findWalletForUpdate(walletId).orElseThrow(() ->
                 new DomainException("Wallet with id [%s] does not exist.".formatted(walletId)));
     }
 
+    private Optional<Wallet> findWalletForUpdate(UUID walletId) {
+        return this.balanceEngine.isEnabled() ? this.walletRepository.findCurrentById(walletId) : this.walletRepository.findByIdForUpdate(walletId);
+    }
+
+    @Transactional(readOnly = true)
     public Map<UUID, List<Transaction>> getLastFourTransactions(List<Wallet> wallets) {
         Map<UUID, List<Transaction>> transactionsByWallet = new LinkedHashMap<>();
 
@@ -238,6 +304,17 @@ public class WalletService {
         return transactionsByWallet;
     }
 
+    @Transactional(readOnly = true)
+    public List<WalletSummary> getSummariesByOwnerId(UUID ownerId) {
+        return this.walletRepository.findAllSummariesByOwnerId(ownerId);
+    }
+
+    public void requireOwnedBy(UUID walletId, UUID userId) {
+        if (!this.walletRepository.existsByIdAndOwnerId(walletId, userId)) {
+            throw new DomainException("Wallet does not belong to user with id [%s].".formatted(userId));
+        }
+    }
+
     public void switchStatus(UUID walletId, UUID userId) {
         Optional<Wallet> optionalWallet = this.walletRepository.findByIdAndOwnerId(walletId, userId);
         if (optionalWallet.isEmpty()) {
@@ -252,5 +329,29 @@ public class WalletService {
         }
 
         this.walletRepository.save(wallet);
+        eventPublisher.publishEvent(new WalletStatusChangedEvent(wallet.getId(), userId, wallet.getOwner().getUsername(), wallet.getStatus()));
+    }
+
+    private Money deposit(Wallet wallet, Money amount) {
+        Money balance;
+        if (this.balanceEngine.isEnabled()) {
+            balance = this.balanceEngine.deposit(wallet.getId(), amount).getBalance();
+        } else {
+            balance = balanceOf(wallet).plus(amount);
+            wallet.setBalance(balance.toBigDecimal());
+            wallet.setUpdatedOn(LocalDateTime.now());
+            this.walletRepository.save(wallet);
+        }
+
+        publishBalanceChanged(wallet, balance);
+        return balance;
+    }
+
+    private void publishBalanceChanged(Wallet wallet, Money balance) {
+        eventPublisher.publishEvent(new WalletBalanceChangedEvent(wallet.getId(), wallet.getOwner().getId(), balance));
+    }
+
+    private static Money balanceOf(Wallet wallet) {
+        return Money.of(wallet.getBalance(), wallet.getCurrency());
     }
 }
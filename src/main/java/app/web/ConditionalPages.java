@@ -0,0 +1,29 @@
+package app.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+final class ConditionalPages {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalPages() {
+    }
+
+    static boolean isNotModified(ServletWebRequest webRequest, String version, Object... variant) {
+        StringBuilder etag = new StringBuilder("W/\"")
+                .append(version)
+                .append('.')
+                .append(Integer.toHexString(webRequest.getSessionId().hashCode()));
+        for (Object part : variant) {
+            etag.append('.').append(part);
+        }
+        etag.append('"');
+
+        if (webRequest.getResponse() != null) {
+            webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return webRequest.checkNotModified(etag.toString());
+    }
+}
@@ -0,0 +1,43 @@
+package app.web;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class FragmentCache {
+
+    private static final String SIDEBAR_TEMPLATE = "fragments/sidebar";
+    private static final Set<String> SIDEBAR_SELECTOR = Set.of("sidebar");
+
+    private final ITemplateEngine templateEngine;
+    private final boolean enabled;
+    private final ConcurrentMap<String, String> sidebars = new ConcurrentHashMap<>();
+
+    @Autowired
+    public FragmentCache(ITemplateEngine templateEngine, @Value("${spring.thymeleaf.cache:true}") boolean enabled) {
+        this.templateEngine = templateEngine;
+        this.enabled = enabled;
+    }
+
+    public String sidebar(String active, boolean admin) {
+        if (!this.enabled) {
+            return renderSidebar(active, admin);
+        }
+
+        return this.sidebars.computeIfAbsent(active + ":" + admin, key -> renderSidebar(active, admin));
+    }
+
+    private String renderSidebar(String active, boolean admin) {
+        Context context = new Context(Locale.ENGLISH, Map.of("active", active, "admin", admin));
+        return this.templateEngine.process(SIDEBAR_TEMPLATE, SIDEBAR_SELECTOR, context);
+    }
+}
@@ -1,8 +1,9 @@
 package app.web;
 
 import app.security.AuthenticationMetaData;
-import app.user.model.User;
+import app.user.model.HomeDashboard;
 import app.user.service.UserService;
+import app.user.service.UserVersionService;
 import app.web.dto.LoginRequest;
 import app.web.dto.RegisterRequest;
 import jakarta.validation.Valid;
@@ -13,16 +14,19 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.ModelAndView;
 
 @Controller
 public class IndexController {
 
     private final UserService userService;
+    private final UserVersionService userVersionService;
 
     @Autowired
-    public IndexController(UserService userService) {
+    public IndexController(UserService userService, UserVersionService userVersionService) {
         this.userService = userService;
+        this.userVersionService = userVersionService;
     }
 
     @GetMapping
@@ -65,12 +69,16 @@ public class IndexController {
     }
 
     @GetMapping("/home")
-    public ModelAndView getHomePage(@AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+    public ModelAndView getHomePage(@AuthenticationPrincipal AuthenticationMetaData authenticationMetaData, ServletWebRequest webRequest) {
+        if (ConditionalPages.isNotModified(webRequest, this.userVersionService.getVersion(authenticationMetaData.getId()))) {
+            return null;
+        }
+
         ModelAndView modelAndView = new ModelAndView();
 
-        User user = this.userService.getById(authenticationMetaData.getId());
+        HomeDashboard dashboard = this.userService.getHomeDashboard(authenticationMetaData.getId());
         modelAndView.setViewName("home");
-        modelAndView.addObject("user", user);
+        modelAndView.addObject("dashboard", dashboard);
 
         return modelAndView;
     }
@@ -1,11 +1,13 @@
 package app.web;
 
+import app.idempotency.model.IdempotentOperation;
+import app.idempotency.service.IdempotencyService;
 import app.security.AuthenticationMetaData;
 import app.subscription.model.SubscriptionType;
 import app.subscription.service.SubscriptionService;
-import app.transaction.model.Transaction;
 import app.user.model.User;
 import app.user.service.UserService;
+import app.user.service.UserVersionService;
 import app.web.dto.UpgradeRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -14,19 +16,28 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.ModelAndView;
 
+import java.util.List;
+import java.util.UUID;
+
 @Controller
 @RequestMapping("/subscriptions")
 public class SubscriptionsController {
 
     private final UserService userService;
     private final SubscriptionService subscriptionService;
+    private final IdempotencyService idempotencyService;
+    private final UserVersionService userVersionService;
 
     @Autowired
-    public SubscriptionsController(UserService userService, SubscriptionService subscriptionService) {
+    public SubscriptionsController(UserService userService, SubscriptionService subscriptionService,
+                                   IdempotencyService idempotencyService, UserVersionService userVersionService) {
         this.userService = userService;
         this.subscriptionService = subscriptionService;
+        this.idempotencyService = idempotencyService;
+        this.userVersionService = userVersionService;
     }
 
     @GetMapping
@@ -42,16 +53,23 @@ public class SubscriptionsController {
     }
 
     @PostMapping
-    public String upgrade(@RequestParam("subscription-type") SubscriptionType subscriptionType, UpgradeRequest upgradeRequest, @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+    public String upgrade(@RequestParam("subscription-type") SubscriptionType subscriptionType, UpgradeRequest upgradeRequest,
+                          @RequestParam(name = "idempotencyKey", required = false) String idempotencyKey,
+                          @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
         User user = this.userService.getById(authenticationMetaData.getId());
 
-        Transaction upgrade = this.subscriptionService.upgrade(user, upgradeRequest, subscriptionType);
+        UUID transactionId = this.idempotencyService.execute(user.getId(), IdempotentOperation.SUBSCRIPTION_UPGRADE, idempotencyKey, List.of(subscriptionType, upgradeRequest),
+                () -> this.subscriptionService.upgrade(user, upgradeRequest, subscriptionType).getId());
 
-        return "redirect:/transactions/" + upgrade.getId();
+        return "redirect:/transactions/" + transactionId;
     }
 
     @GetMapping("/history")
-    public ModelAndView getSubscriptionsPage(@AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+    public ModelAndView getSubscriptionsPage(@AuthenticationPrincipal AuthenticationMetaData authenticationMetaData, ServletWebRequest webRequest) {
+        if (ConditionalPages.isNotModified(webRequest, this.userVersionService.getVersion(authenticationMetaData.getId()))) {
+            return null;
+        }
+
         User user = this.userService.getById(authenticationMetaData.getId());
 
         ModelAndView modelAndView = new ModelAndView();
@@ -2,17 +2,27 @@ package app.web;
 
 import app.security.AuthenticationMetaData;
 import app.transaction.model.Transaction;
+import app.transaction.service.TransactionArchiveService;
 import app.transaction.service.TransactionService;
 import app.user.model.User;
 import app.user.service.UserService;
+import app.user.service.UserVersionService;
+import app.web.mapper.DtoMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.ModelAndView;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,27 +31,49 @@ import java.util.UUID;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionArchiveService transactionArchiveService;
     private final UserService userService;
+    private final UserVersionService userVersionService;
 
     @Autowired
-    public TransactionController(TransactionService transactionService, UserService userService) {
+    public TransactionController(TransactionService transactionService, TransactionArchiveService transactionArchiveService,
+                                 UserService userService, UserVersionService userVersionService) {
         this.transactionService = transactionService;
+        this.transactionArchiveService = transactionArchiveService;
         this.userService = userService;
+        this.userVersionService = userVersionService;
     }
 
     @GetMapping
-    public ModelAndView getTransactionsPage(@AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+    public ModelAndView getTransactionsPage(@RequestParam(name = "archived", defaultValue = "false") boolean includeArchived,
+                                            @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData,
+                                            ServletWebRequest webRequest) {
+        LocalDateTime from = includeArchived ? null : this.transactionArchiveService.getHotHistoryStart();
+        if (ConditionalPages.isNotModified(webRequest, this.userVersionService.getVersion(authenticationMetaData.getId()),
+                from == null ? "all" : from.toLocalDate())) {
+            return null;
+        }
+
         ModelAndView modelAndView = new ModelAndView();
         User user = this.userService.getById(authenticationMetaData.getId());
 
-        List<Transaction> transactions = this.transactionService.getAllByOwnerId(authenticationMetaData.getId());
+        List<Transaction> transactions = this.transactionService.getAllByOwnerIdSince(authenticationMetaData.getId(), from, includeArchived);
         modelAndView.setViewName("transactions");
-        modelAndView.addObject("transactions", transactions);
+        modelAndView.addObject("transactionRows", DtoMapper.mapTransactionsToRows(transactions));
         modelAndView.addObject("user", user);
+        modelAndView.addObject("historyFrom", from);
 
         return modelAndView;
     }
 
+    @PutMapping("/archive/rehydration")
+    @PreAuthorize("hasRole('ADMIN')")
+    public String rehydrateArchivedTransactions(@RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        this.transactionArchiveService.rehydrate(from.atStartOfDay());
+
+        return "redirect:/transactions?archived=true";
+    }
+
     @GetMapping("/{id}")
     public ModelAndView getTransactionById(@PathVariable UUID id, @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
         Transaction transaction = this.transactionService.getById(id);
@@ -1,7 +1,11 @@
 package app.web;
 
+import app.idempotency.model.IdempotentOperation;
+import app.idempotency.service.IdempotencyService;
 import app.security.AuthenticationMetaData;
-import app.transaction.model.Transaction;
+import app.transfer.model.TransferOrder;
+import app.transfer.service.AsyncTransferProperties;
+import app.transfer.service.TransferOrderService;
 import app.user.model.User;
 import app.user.service.UserService;
 import app.wallet.service.WalletService;
@@ -12,21 +16,35 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
 
+import java.util.UUID;
+
 @Controller
 @RequestMapping("/transfers")
 public class TransferController {
 
     private final UserService userService;
     private final WalletService walletService;
+    private final IdempotencyService idempotencyService;
+    private final TransferOrderService transferOrderService;
+    private final AsyncTransferProperties asyncTransferProperties;
 
     @Autowired
-    public TransferController(UserService userService, WalletService walletService) {
+    public TransferController(UserService userService,
+                              WalletService walletService,
+                              IdempotencyService idempotencyService,
+                              TransferOrderService transferOrderService,
+                              AsyncTransferProperties asyncTransferProperties) {
         this.userService = userService;
         this.walletService = walletService;
+        this.idempotencyService = idempotencyService;
+        this.transferOrderService = transferOrderService;
+        this.asyncTransferProperties = asyncTransferProperties;
     }
 
     @GetMapping
@@ -41,7 +59,9 @@ public class TransferController {
     }
 
     @PostMapping
-    public ModelAndView initiateTransfer(@Valid TransferRequest transferRequest, BindingResult bindingResult, @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+    public ModelAndView initiateTransfer(@Valid TransferRequest transferRequest, BindingResult bindingResult,
+                                         @RequestParam(name = "idempotencyKey", required = false) String idempotencyKey,
+                                         @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
         User user = this.userService.getById(authenticationMetaData.getId());
 
         if (bindingResult.hasErrors()) {
@@ -54,8 +74,34 @@ public class TransferController {
             return modelAndView;
         }
 
-        Transaction transaction = this.walletService.transferFunds(user, transferRequest);
+        if (this.asyncTransferProperties.isEnabled()) {
+            UUID transferOrderId = this.idempotencyService.execute(user.getId(), IdempotentOperation.TRANSFER_ORDER, idempotencyKey, transferRequest,
+                    () -> this.transferOrderService.submit(user, transferRequest).getId());
+
+            return new ModelAndView("redirect:/transfers/" + transferOrderId);
+        }
+
+        UUID transactionId = this.idempotencyService.execute(user.getId(), IdempotentOperation.TRANSFER, idempotencyKey, transferRequest,
+                () -> this.walletService.transferFunds(user, transferRequest).getId());
 
-        return new ModelAndView("redirect:/transactions/" + transaction.getId());
+        return new ModelAndView("redirect:/transactions/" + transactionId);
+    }
+
+    @GetMapping("/{id}")
+    public ModelAndView getTransferStatus(@PathVariable UUID id, @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+        TransferOrder transferOrder = this.transferOrderService.getByIdAndSenderId(id, authenticationMetaData.getId());
+
+        if (transferOrder.getTransactionId() != null) {
+            return new ModelAndView("redirect:/transactions/" + transferOrder.getTransactionId());
+        }
+
+        User user = this.userService.getById(authenticationMetaData.getId());
+
+        ModelAndView modelAndView = new ModelAndView();
+        modelAndView.setViewName("transfer-status");
+        modelAndView.addObject("user", user);
+        modelAndView.addObject("transferOrder", transferOrder);
+
+        return modelAndView;
     }
 }
@@ -1,17 +1,23 @@
 package app.web;
 
+import app.fx.service.FxRateService;
+import app.idempotency.model.IdempotentOperation;
+import app.idempotency.service.IdempotencyService;
+import app.money.Money;
 import app.security.AuthenticationMetaData;
 import app.transaction.model.Transaction;
 import app.transaction.service.TransactionService;
 import app.user.model.User;
 import app.user.service.UserService;
+import app.user.service.UserVersionService;
 import app.wallet.service.WalletService;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.ModelAndView;
 
-import java.math.BigDecimal;
+import java.util.Currency;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -20,16 +26,30 @@ import java.util.UUID;
 @RequestMapping("/wallets")
 public class WalletController {
 
+    private static final Money TOP_UP_AMOUNT = Money.ofMinor(2000, Money.EUR);
+
     private final UserService userService;
     private final WalletService walletService;
+    private final IdempotencyService idempotencyService;
+    private final FxRateService fxRateService;
+    private final UserVersionService userVersionService;
 
-    public WalletController(UserService userService, WalletService walletService) {
+    public WalletController(UserService userService, WalletService walletService, IdempotencyService idempotencyService,
+                            FxRateService fxRateService, UserVersionService userVersionService) {
         this.userService = userService;
         this.walletService = walletService;
+        this.idempotencyService = idempotencyService;
+        this.fxRateService = fxRateService;
+        this.userVersionService = userVersionService;
     }
 
     @GetMapping
-    public ModelAndView getWalletsPage(@AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+    public ModelAndView getWalletsPage(@AuthenticationPrincipal AuthenticationMetaData authenticationMetaData, ServletWebRequest webRequest) {
+        if (ConditionalPages.isNotModified(webRequest, this.userVersionService.getVersion(authenticationMetaData.getId()),
+                this.fxRateService.getSnapshot().getLoadedAt().toEpochMilli())) {
+            return null;
+        }
+
         User user = this.userService.getById(authenticationMetaData.getId());
         Map<UUID, List<Transaction>> lastFourTransactions = this.walletService.getLastFourTransactions(user.getWallets());
 
@@ -38,15 +58,17 @@ public class WalletController {
         modelAndView.setViewName("wallets");
         modelAndView.addObject("user", user);
         modelAndView.addObject("lastFourTransactions", lastFourTransactions);
+        modelAndView.addObject("currencies", this.fxRateService.getSupportedCurrencies());
 
         return modelAndView;
     }
 
     @PostMapping
-    public String createNewWallet(@AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+    public String createNewWallet(@RequestParam(name = "currency", defaultValue = "EUR") Currency currency,
+                                  @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
         User user = this.userService.getById(authenticationMetaData.getId());
 
-        this.walletService.createNewWallet(user);
+        this.walletService.createNewWallet(user, currency);
         return "redirect:/wallets";
     }
 
@@ -58,9 +80,12 @@ public class WalletController {
     }
 
     @PutMapping("/{id}/top-up")
-    public String topUp(@PathVariable UUID id) {
-        Transaction transaction = this.walletService.topUp(id, new BigDecimal(20));
+    public String topUp(@PathVariable UUID id,
+                        @RequestParam(name = "idempotencyKey", required = false) String idempotencyKey,
+                        @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+        UUID transactionId = this.idempotencyService.execute(authenticationMetaData.getId(), IdempotentOperation.TOP_UP, idempotencyKey, id,
+                () -> this.walletService.topUp(id, TOP_UP_AMOUNT).getId());
 
-        return "redirect:/transactions/" + transaction.getId();
+        return "redirect:/transactions/" + transactionId;
     }
 }
@@ -0,0 +1,77 @@
+package app.web.api;
+
+import app.idempotency.model.IdempotentOperation;
+import app.idempotency.service.IdempotencyService;
+import app.security.AuthenticationMetaData;
+import app.subscription.model.SubscriptionSummary;
+import app.subscription.model.SubscriptionType;
+import app.subscription.service.SubscriptionService;
+import app.transaction.model.TransactionSummary;
+import app.transaction.service.TransactionService;
+import app.user.model.User;
+import app.user.service.UserService;
+import app.wallet.service.WalletService;
+import app.web.dto.UpgradeRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/subscriptions")
+public class SubscriptionApiController {
+
+    private final UserService userService;
+    private final WalletService walletService;
+    private final TransactionService transactionService;
+    private final SubscriptionService subscriptionService;
+    private final IdempotencyService idempotencyService;
+
+    @Autowired
+    public SubscriptionApiController(UserService userService,
+                                     WalletService walletService,
+                                     TransactionService transactionService,
+                                     SubscriptionService subscriptionService,
+                                     IdempotencyService idempotencyService) {
+        this.userService = userService;
+        this.walletService = walletService;
+        this.transactionService = transactionService;
+        this.subscriptionService = subscriptionService;
+        this.idempotencyService = idempotencyService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SubscriptionSummary>> getSubscriptions(@AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(this.subscriptionService.getSummariesByOwnerId(authenticationMetaData.getId()));
+    }
+
+    @PostMapping
+    public ResponseEntity<TransactionSummary> upgrade(@RequestParam("type") SubscriptionType subscriptionType,
+                                                      @RequestBody @Valid UpgradeRequest upgradeRequest,
+                                                      @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+                                                      @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+        UUID userId = authenticationMetaData.getId();
+        this.walletService.requireOwnedBy(upgradeRequest.getWalletId(), userId);
+        User user = this.userService.getById(userId);
+
+        UUID transactionId = this.idempotencyService.execute(userId, IdempotentOperation.SUBSCRIPTION_UPGRADE, idempotencyKey, List.of(subscriptionType, upgradeRequest),
+                () -> this.subscriptionService.upgrade(user, upgradeRequest, subscriptionType).getId());
+
+        return ResponseEntity.created(URI.create("/api/v1/transactions/" + transactionId))
+                .body(this.transactionService.getSummaryByIdAndOwnerId(transactionId, userId));
+    }
+}
@@ -0,0 +1,45 @@
+package app.web.api;
+
+import app.security.AuthenticationMetaData;
+import app.transaction.model.TransactionPage;
+import app.transaction.model.TransactionSummary;
+import app.transaction.service.TransactionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/transactions")
+public class TransactionApiController {
+
+    private final TransactionService transactionService;
+
+    @Autowired
+    public TransactionApiController(TransactionService transactionService) {
+        this.transactionService = transactionService;
+    }
+
+    @GetMapping
+    public ResponseEntity<TransactionPage> getTransactions(@RequestParam(name = "cursor", required = false) String cursor,
+                                                           @RequestParam(name = "size", defaultValue = "20") int size,
+                                                           @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(this.transactionService.getPageByOwnerId(authenticationMetaData.getId(), cursor, size));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TransactionSummary> getTransaction(@PathVariable UUID id, @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(this.transactionService.getSummaryByIdAndOwnerId(id, authenticationMetaData.getId()));
+    }
+}
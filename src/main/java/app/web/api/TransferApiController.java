@@ -0,0 +1,86 @@
+package app.web.api;
+
+import app.idempotency.model.IdempotentOperation;
+import app.idempotency.service.IdempotencyService;
+import app.security.AuthenticationMetaData;
+import app.transaction.service.TransactionService;
+import app.transfer.model.TransferOrderSummary;
+import app.transfer.service.AsyncTransferProperties;
+import app.transfer.service.TransferOrderService;
+import app.user.model.User;
+import app.user.service.UserService;
+import app.wallet.service.WalletService;
+import app.web.dto.TransferRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/transfers")
+public class TransferApiController {
+
+    private final UserService userService;
+    private final WalletService walletService;
+    private final TransactionService transactionService;
+    private final IdempotencyService idempotencyService;
+    private final TransferOrderService transferOrderService;
+    private final AsyncTransferProperties asyncTransferProperties;
+
+    @Autowired
+    public TransferApiController(UserService userService,
+                                 WalletService walletService,
+                                 TransactionService transactionService,
+                                 IdempotencyService idempotencyService,
+                                 TransferOrderService transferOrderService,
+                                 AsyncTransferProperties asyncTransferProperties) {
+        this.userService = userService;
+        this.walletService = walletService;
+        this.transactionService = transactionService;
+        this.idempotencyService = idempotencyService;
+        this.transferOrderService = transferOrderService;
+        this.asyncTransferProperties = asyncTransferProperties;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> initiateTransfer(@RequestBody @Valid TransferRequest transferRequest,
+                                              @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+                                              @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+        UUID userId = authenticationMetaData.getId();
+        this.walletService.requireOwnedBy(transferRequest.getFromWalletId(), userId);
+        User user = this.userService.getById(userId);
+
+        if (this.asyncTransferProperties.isEnabled()) {
+            UUID transferOrderId = this.idempotencyService.execute(userId, IdempotentOperation.TRANSFER_ORDER, idempotencyKey, transferRequest,
+                    () -> this.transferOrderService.submit(user, transferRequest).getId());
+
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/transfers/" + transferOrderId))
+                    .body(this.transferOrderService.getSummaryByIdAndSenderId(transferOrderId, userId));
+        }
+
+        UUID transactionId = this.idempotencyService.execute(userId, IdempotentOperation.TRANSFER, idempotencyKey, transferRequest,
+                () -> this.walletService.transferFunds(user, transferRequest).getId());
+
+        return ResponseEntity.created(URI.create("/api/v1/transactions/" + transactionId))
+                .body(this.transactionService.getReceiptByIdAndOwnerId(transactionId, userId));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TransferOrderSummary> getTransfer(@PathVariable UUID id, @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(this.transferOrderService.getSummaryByIdAndSenderId(id, authenticationMetaData.getId()));
+    }
+}
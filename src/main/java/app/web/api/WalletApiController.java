@@ -0,0 +1,63 @@
+package app.web.api;
+
+import app.idempotency.model.IdempotentOperation;
+import app.idempotency.service.IdempotencyService;
+import app.money.Money;
+import app.security.AuthenticationMetaData;
+import app.transaction.model.TransactionSummary;
+import app.transaction.service.TransactionService;
+import app.wallet.model.WalletSummary;
+import app.wallet.service.WalletService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/wallets")
+public class WalletApiController {
+
+    private static final Money TOP_UP_AMOUNT = Money.ofMinor(2000, Money.EUR);
+
+    private final WalletService walletService;
+    private final TransactionService transactionService;
+    private final IdempotencyService idempotencyService;
+
+    @Autowired
+    public WalletApiController(WalletService walletService, TransactionService transactionService, IdempotencyService idempotencyService) {
+        this.walletService = walletService;
+        this.transactionService = transactionService;
+        this.idempotencyService = idempotencyService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<WalletSummary>> getWallets(@AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(this.walletService.getSummariesByOwnerId(authenticationMetaData.getId()));
+    }
+
+    @PostMapping("/{id}/top-up")
+    public ResponseEntity<TransactionSummary> topUp(@PathVariable UUID id,
+                                                    @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+                                                    @AuthenticationPrincipal AuthenticationMetaData authenticationMetaData) {
+        UUID userId = authenticationMetaData.getId();
+        this.walletService.requireOwnedBy(id, userId);
+
+        UUID transactionId = this.idempotencyService.execute(userId, IdempotentOperation.TOP_UP, idempotencyKey, id,
+                () -> this.walletService.topUp(id, TOP_UP_AMOUNT).getId());
+
+        return ResponseEntity.created(URI.create("/api/v1/transactions/" + transactionId))
+                .body(this.transactionService.getSummaryByIdAndOwnerId(transactionId, userId));
+    }
+}
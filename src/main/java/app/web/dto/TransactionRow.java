@@ -0,0 +1,27 @@
+package app.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TransactionRow {
+
+    private UUID id;
+
+    private String status;
+
+    private String statusClass;
+
+    private String amount;
+
+    private boolean amountCrossedOut;
+
+    private String balance;
+
+    private String note;
+
+    private String createdOn;
+}
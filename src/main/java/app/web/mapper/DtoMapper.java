@@ -1,12 +1,22 @@
 package app.web.mapper;
 
+import app.transaction.model.Transaction;
+import app.transaction.model.TransactionStatus;
+import app.transaction.model.TransactionType;
 import app.user.model.User;
 import app.web.dto.EditRequest;
+import app.web.dto.TransactionRow;
 import lombok.experimental.UtilityClass;
 
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
 @UtilityClass
 public class DtoMapper {
 
+    private static final DateTimeFormatter ROW_DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy HH:mm", Locale.ENGLISH);
+
     public static EditRequest mapUserToEditRequest(User user) {
         return EditRequest.builder()
                 .firstName(user.getFirstName())
@@ -15,4 +25,25 @@ public class DtoMapper {
                 .profilePicture(user.getProfilePicture())
                 .build();
     }
+
+    public static List<TransactionRow> mapTransactionsToRows(List<Transaction> transactions) {
+        return transactions.stream().map(DtoMapper::mapTransactionToRow).toList();
+    }
+
+    public static TransactionRow mapTransactionToRow(Transaction transaction) {
+        boolean failed = transaction.getStatus() == TransactionStatus.FAILED;
+        boolean credited = failed
+                ? transaction.getType() == TransactionType.WITHDRAWAL
+                : transaction.getType() == TransactionType.DEPOSIT;
+        String currency = " " + transaction.getCurrency();
+
+        return new TransactionRow(transaction.getId(),
+                transaction.getStatus().name(),
+                failed ? "status terminated" : "status active",
+                (credited ? "+" : "-") + transaction.getAmount().toPlainString() + currency,
+                failed,
+                transaction.getBalanceLeft().toPlainString() + currency,
+                failed ? transaction.getFailureReason() : transaction.getDescription(),
+                transaction.getCreatedOn().format(ROW_DATE_FORMAT));
+    }
 }
@@ -0,0 +1,63 @@
+-- Schema as previously generated by spring.jpa.hibernate.ddl-auto=update (MySQL 8).
+-- Databases created that way are baselined at this version and start from V2.
+
+CREATE TABLE `user` (
+    id              BINARY(16)                       NOT NULL,
+    username        VARCHAR(255)                     NOT NULL,
+    first_name      VARCHAR(255),
+    last_name       VARCHAR(255),
+    profile_picture VARCHAR(255),
+    password        VARCHAR(255)                     NOT NULL,
+    email           VARCHAR(255),
+    role            ENUM ('ADMIN','USER'),
+    country         ENUM ('BULGARIA','FRANCE','GERMANY'),
+    is_active       BIT                              NOT NULL,
+    created_on      DATETIME(6)                      NOT NULL,
+    updated_on      DATETIME(6)                      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UKsb8bbouer5wak8vyiiy4pf2bx UNIQUE (username),
+    CONSTRAINT UKob8kqyqqgmefl0aco34akdtpe UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE wallet (
+    id         BINARY(16)                NOT NULL,
+    owner_id   BINARY(16),
+    status     ENUM ('ACTIVE','INACTIVE') NOT NULL,
+    balance    DECIMAL(38, 2)            NOT NULL,
+    currency   VARCHAR(3)                NOT NULL,
+    created_on DATETIME(6)               NOT NULL,
+    updated_on DATETIME(6)               NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FKrg4reqrefjux3h25jrga2dc0p FOREIGN KEY (owner_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE subscription (
+    id              BINARY(16)                               NOT NULL,
+    owner_id        BINARY(16),
+    status          ENUM ('ACTIVE','COMPLETED','TERMINATED') NOT NULL,
+    period          ENUM ('MONTHLY','YEARLY')                NOT NULL,
+    type            ENUM ('DEFAULT','PREMIUM','ULTIMATE')    NOT NULL,
+    price           DECIMAL(38, 2)                           NOT NULL,
+    renewal_allowed BIT                                      NOT NULL,
+    created_on      DATETIME(6)                              NOT NULL,
+    completed_on    DATETIME(6)                              NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FK2nrr5kly6n8aybjo64ha9fbfm FOREIGN KEY (owner_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE `transaction` (
+    id             BINARY(16)                            NOT NULL,
+    owner_id       BINARY(16),
+    sender         VARCHAR(255)                          NOT NULL,
+    receiver       VARCHAR(255)                          NOT NULL,
+    amount         DECIMAL(38, 2)                        NOT NULL,
+    balance_left   DECIMAL(38, 2)                        NOT NULL,
+    currency       VARCHAR(3)                            NOT NULL,
+    type           ENUM ('DEPOSIT','WITHDRAWAL')         NOT NULL,
+    status         ENUM ('FAILED','SUCCEEDED')           NOT NULL,
+    description    VARCHAR(255)                          NOT NULL,
+    failure_reason VARCHAR(255),
+    created_on     DATETIME(6)                           NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FK4b7rbdeyj5iw6y3rt67suxs4n FOREIGN KEY (owner_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,9 @@
+-- Results of keyed top-ups, transfers and upgrades (IdempotencyRecord).
+
+CREATE TABLE idempotency_record (
+    id         VARCHAR(255) NOT NULL,
+    owner_id   BINARY(16)   NOT NULL,
+    result_id  BINARY(16)   NOT NULL,
+    created_on DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,17 @@
+-- Asynchronous transfer submission (TransferOrder) and the PENDING status it starts in.
+
+ALTER TABLE `transaction` MODIFY COLUMN status ENUM ('FAILED','PENDING','SUCCEEDED') NOT NULL;
+
+CREATE TABLE transfer_order (
+    id                BINARY(16)                            NOT NULL,
+    sender_id         BINARY(16)                            NOT NULL,
+    from_wallet_id    BINARY(16)                            NOT NULL,
+    username_receiver VARCHAR(255)                          NOT NULL,
+    amount            DECIMAL(38, 2)                        NOT NULL,
+    status            ENUM ('FAILED','PENDING','SUCCEEDED') NOT NULL,
+    transaction_id    BINARY(16),
+    failure_reason    VARCHAR(255),
+    created_on        DATETIME(6)                           NOT NULL,
+    processed_on      DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,21 @@
+-- Cold storage for old transactions (ArchivedTransaction) and the rehydration marker on rows copied back.
+
+ALTER TABLE `transaction` ADD COLUMN rehydrated_on DATETIME(6) AFTER created_on;
+
+CREATE TABLE archived_transaction (
+    id             BINARY(16)                            NOT NULL,
+    owner_id       BINARY(16),
+    sender         VARCHAR(255)                          NOT NULL,
+    receiver       VARCHAR(255)                          NOT NULL,
+    amount         DECIMAL(38, 2)                        NOT NULL,
+    balance_left   DECIMAL(38, 2)                        NOT NULL,
+    currency       VARCHAR(3)                            NOT NULL,
+    type           ENUM ('DEPOSIT','WITHDRAWAL')         NOT NULL,
+    status         ENUM ('FAILED','PENDING','SUCCEEDED') NOT NULL,
+    description    VARCHAR(255)                          NOT NULL,
+    failure_reason VARCHAR(255),
+    created_on     DATETIME(6)                           NOT NULL,
+    archived_on    DATETIME(6)                           NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FK6g9v2k6e7leltd2nhu5jim1hp FOREIGN KEY (owner_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,27 @@
+-- One index per repository access path. Indexes leading with owner_id also serve the
+-- foreign keys, so InnoDB drops the implicit single-column FK indexes it created for them.
+
+-- TransactionRepository.findAllByOwnerIdOrderByCreatedOnDesc / ...AndCreatedOnGreaterThanEqual...
+CREATE INDEX idx_transaction_owner_created ON `transaction` (owner_id, created_on);
+-- TransactionRepository.findAllBySenderOrReceiverOrderByCreatedOnDesc (index merge union)
+CREATE INDEX idx_transaction_sender_created ON `transaction` (sender, created_on);
+CREATE INDEX idx_transaction_receiver_created ON `transaction` (receiver, created_on);
+-- TransactionRepository.findArchivableIds
+CREATE INDEX idx_transaction_created ON `transaction` (created_on);
+
+-- ArchivedTransactionRepository.findAllByOwnerId... / findIdsCreatedFrom
+CREATE INDEX idx_archived_transaction_owner_created ON archived_transaction (owner_id, created_on);
+CREATE INDEX idx_archived_transaction_created ON archived_transaction (created_on);
+
+-- WalletRepository.findAllWalletsByOwnerUsername / findPrimaryActiveWalletIdByOwnerUsername,
+-- UserRepository.findHomeDashboardByUserId (min(created_on) per owner)
+CREATE INDEX idx_wallet_owner_created ON wallet (owner_id, created_on);
+
+-- SubscriptionRepository.findByStatusAndOwnerId / findActiveSubscriptionTypeByOwnerId
+CREATE INDEX idx_subscription_owner_status ON subscription (owner_id, status);
+
+-- TransferOrderRepository.findAllByStatusOrderByCreatedOnAsc
+CREATE INDEX idx_transfer_order_status_created ON transfer_order (status, created_on);
+
+-- IdempotencyRecordRepository.deleteAllCreatedBefore
+CREATE INDEX idx_idempotency_record_created ON idempotency_record (created_on);
@@ -0,0 +1,5 @@
+-- Idempotency records are scoped by operation (owner:operation:key) and remember a fingerprint of the
+-- request they answered. Records in the old owner:key format can no longer match and are dropped.
+DELETE FROM idempotency_record;
+
+ALTER TABLE idempotency_record ADD COLUMN request_fingerprint CHAR(64) NOT NULL AFTER owner_id;
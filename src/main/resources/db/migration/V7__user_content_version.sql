@@ -0,0 +1,3 @@
+-- Per-user stamp behind the conditional (304) pages, bumped in the same transaction as the change it reflects.
+
+ALTER TABLE `user` ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0 AFTER updated_on;
@@ -0,0 +1,80 @@
+-- Rewrites existing random (v4) primary keys of user, wallet, subscription, transaction,
+-- archived_transaction and transfer_order into time-ordered (v7 layout) keys derived from each row's created_on,
+-- and updates every column that refers to them. Run once against MySQL 8 during a maintenance window.
+-- The low 74 random bits of each old id are kept, so new ids stay unique.
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+CREATE TEMPORARY TABLE user_id_map (old_id BINARY(16) PRIMARY KEY, new_id BINARY(16) NOT NULL)
+SELECT id AS old_id,
+       UNHEX(CONCAT(LPAD(HEX(FLOOR(UNIX_TIMESTAMP(created_on) * 1000)), 12, '0'), '7',
+                    SUBSTRING(HEX(id), 14, 3), SUBSTRING(HEX(id), 17, 16))) AS new_id
+FROM `user`;
+
+CREATE TEMPORARY TABLE wallet_id_map (old_id BINARY(16) PRIMARY KEY, new_id BINARY(16) NOT NULL)
+SELECT id AS old_id,
+       UNHEX(CONCAT(LPAD(HEX(FLOOR(UNIX_TIMESTAMP(created_on) * 1000)), 12, '0'), '7',
+                    SUBSTRING(HEX(id), 14, 3), SUBSTRING(HEX(id), 17, 16))) AS new_id
+FROM wallet;
+
+CREATE TEMPORARY TABLE subscription_id_map (old_id BINARY(16) PRIMARY KEY, new_id BINARY(16) NOT NULL)
+SELECT id AS old_id,
+       UNHEX(CONCAT(LPAD(HEX(FLOOR(UNIX_TIMESTAMP(created_on) * 1000)), 12, '0'), '7',
+                    SUBSTRING(HEX(id), 14, 3), SUBSTRING(HEX(id), 17, 16))) AS new_id
+FROM subscription;
+
+CREATE TEMPORARY TABLE transaction_id_map (old_id BINARY(16) PRIMARY KEY, new_id BINARY(16) NOT NULL)
+SELECT id AS old_id,
+       UNHEX(CONCAT(LPAD(HEX(FLOOR(UNIX_TIMESTAMP(created_on) * 1000)), 12, '0'), '7',
+                    SUBSTRING(HEX(id), 14, 3), SUBSTRING(HEX(id), 17, 16))) AS new_id
+FROM `transaction`;
+
+CREATE TEMPORARY TABLE archived_transaction_id_map (old_id BINARY(16) PRIMARY KEY, new_id BINARY(16) NOT NULL)
+SELECT id AS old_id,
+       UNHEX(CONCAT(LPAD(HEX(FLOOR(UNIX_TIMESTAMP(created_on) * 1000)), 12, '0'), '7',
+                    SUBSTRING(HEX(id), 14, 3), SUBSTRING(HEX(id), 17, 16))) AS new_id
+FROM archived_transaction;
+
+CREATE TEMPORARY TABLE transfer_order_id_map (old_id BINARY(16) PRIMARY KEY, new_id BINARY(16) NOT NULL)
+SELECT id AS old_id,
+       UNHEX(CONCAT(LPAD(HEX(FLOOR(UNIX_TIMESTAMP(created_on) * 1000)), 12, '0'), '7',
+                    SUBSTRING(HEX(id), 14, 3), SUBSTRING(HEX(id), 17, 16))) AS new_id
+FROM transfer_order;
+
+START TRANSACTION;
+
+-- References to users
+UPDATE wallet w JOIN user_id_map m ON w.owner_id = m.old_id SET w.owner_id = m.new_id;
+UPDATE subscription s JOIN user_id_map m ON s.owner_id = m.old_id SET s.owner_id = m.new_id;
+UPDATE `transaction` t JOIN user_id_map m ON t.owner_id = m.old_id SET t.owner_id = m.new_id;
+UPDATE archived_transaction a JOIN user_id_map m ON a.owner_id = m.old_id SET a.owner_id = m.new_id;
+UPDATE transfer_order o JOIN user_id_map m ON o.sender_id = m.old_id SET o.sender_id = m.new_id;
+
+-- References to wallets (transaction sender/receiver hold wallet ids as text)
+UPDATE `transaction` t JOIN wallet_id_map m ON t.sender = BIN_TO_UUID(m.old_id) SET t.sender = BIN_TO_UUID(m.new_id);
+UPDATE `transaction` t JOIN wallet_id_map m ON t.receiver = BIN_TO_UUID(m.old_id) SET t.receiver = BIN_TO_UUID(m.new_id);
+UPDATE archived_transaction a JOIN wallet_id_map m ON a.sender = BIN_TO_UUID(m.old_id) SET a.sender = BIN_TO_UUID(m.new_id);
+UPDATE archived_transaction a JOIN wallet_id_map m ON a.receiver = BIN_TO_UUID(m.old_id) SET a.receiver = BIN_TO_UUID(m.new_id);
+UPDATE transfer_order o JOIN wallet_id_map m ON o.from_wallet_id = m.old_id SET o.from_wallet_id = m.new_id;
+
+-- References to transactions (an order's transaction may since have been archived)
+UPDATE transfer_order o JOIN transaction_id_map m ON o.transaction_id = m.old_id SET o.transaction_id = m.new_id;
+UPDATE transfer_order o JOIN archived_transaction_id_map m ON o.transaction_id = m.old_id SET o.transaction_id = m.new_id;
+
+-- Idempotency records are short-lived and keyed by the old user ids
+DELETE FROM idempotency_record;
+
+-- Primary keys
+UPDATE `user` u JOIN user_id_map m ON u.id = m.old_id SET u.id = m.new_id;
+UPDATE wallet w JOIN wallet_id_map m ON w.id = m.old_id SET w.id = m.new_id;
+UPDATE subscription s JOIN subscription_id_map m ON s.id = m.old_id SET s.id = m.new_id;
+UPDATE `transaction` t JOIN transaction_id_map m ON t.id = m.old_id SET t.id = m.new_id;
+UPDATE archived_transaction a JOIN archived_transaction_id_map m ON a.id = m.old_id SET a.id = m.new_id;
+UPDATE transfer_order o JOIN transfer_order_id_map m ON o.id = m.old_id SET o.id = m.new_id;
+
+COMMIT;
+
+-- Rebuild clustered indexes so rows are stored in the new key order
+OPTIMIZE TABLE `user`, wallet, subscription, `transaction`, archived_transaction, transfer_order;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,67 @@
+(function () {
+    if (!window.EventSource) {
+        return;
+    }
+
+    const MAX_ACTIVITY_ENTRIES = 4;
+    const source = new EventSource('/live');
+
+    source.addEventListener('balance', function (event) {
+        const update = JSON.parse(event.data);
+        document.querySelectorAll('[data-live-balance="' + update.walletId + '"]').forEach(function (element) {
+            element.textContent = update.balance + ' ' + update.currency;
+        });
+    });
+
+    source.addEventListener('transaction', function (event) {
+        const update = JSON.parse(event.data);
+        if (update.status !== 'SUCCEEDED') {
+            return;
+        }
+
+        new Set([update.sender, update.receiver]).forEach(function (walletId) {
+            const wallet = document.querySelector('[data-live-wallet="' + walletId + '"]');
+            if (wallet) {
+                prependActivity(wallet, update);
+            }
+        });
+    });
+
+    source.addEventListener('resync', function () {
+        window.location.reload();
+    });
+
+    function prependActivity(wallet, update) {
+        const deposit = update.type === 'DEPOSIT';
+        const activity = element('div', 'wallet-activity');
+        const entry = activity.appendChild(element('div', 'activity-entry'));
+        const details = entry.appendChild(element('div', 'activity-entry-description-and-date'));
+        details.appendChild(element('p', 'activity-entry-description', update.description));
+        details.appendChild(element('p', 'activity-entry-date', new Date(update.createdOn).toLocaleString('en-GB', {
+            day: '2-digit', month: 'short', year: 'numeric', hour: '2-digit', minute: '2-digit'
+        })));
+        entry.appendChild(element('p', 'activity-entry-amount ' + (deposit ? 'amount-in' : 'amount-out'),
+            (deposit ? '+' : '-') + update.amount + ' ' + update.currency));
+
+        const activities = wallet.querySelectorAll('.wallet-activity');
+        if (activities.length > 0) {
+            activities[0].before(activity);
+        } else {
+            wallet.appendChild(activity);
+        }
+        wallet.querySelectorAll('.wallet-activity').forEach(function (existing, index) {
+            if (index >= MAX_ACTIVITY_ENTRIES) {
+                existing.remove();
+            }
+        });
+    }
+
+    function element(tag, className, text) {
+        const created = document.createElement(tag);
+        created.className = className;
+        if (text !== undefined) {
+            created.textContent = text;
+        }
+        return created;
+    }
+})();
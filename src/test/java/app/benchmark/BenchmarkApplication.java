@@ -0,0 +1,76 @@
+package app.benchmark;
+
+import app.Application;
+import app.notification.client.NotificationClient;
+import app.notification.client.dto.Notification;
+import app.notification.client.dto.NotificationPreference;
+import app.notification.client.dto.NotificationRequest;
+import app.notification.client.dto.UpsertNotificationPreference;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class BenchmarkApplication {
+
+	private BenchmarkApplication() {
+	}
+
+	public static ConfigurableApplicationContext start(String... args) {
+		return start(List.of(), args);
+	}
+
+	public static ConfigurableApplicationContext start(List<String> profiles, String... args) {
+		List<String> activeProfiles = new ArrayList<>(profiles);
+		activeProfiles.add("benchmark");
+
+		return new SpringApplicationBuilder(Application.class, StubNotificationConfiguration.class)
+				.profiles(activeProfiles.toArray(String[]::new))
+				.run(args);
+	}
+
+	public static class StubNotificationConfiguration {
+
+		@Bean
+		static BeanFactoryPostProcessor demoteFeignNotificationClient() {
+			return beanFactory -> beanFactory.getBeanDefinition(NotificationClient.class.getName()).setPrimary(false);
+		}
+
+		@Bean
+		@Primary
+		NotificationClient stubNotificationClient() {
+			return new NotificationClient() {
+				@Override
+				public ResponseEntity<Void> upsertNotificationPreference(UpsertNotificationPreference notificationPreference) {
+					return ResponseEntity.ok().build();
+				}
+
+				@Override
+				public ResponseEntity<NotificationPreference> getNotificationPreference(UUID userId) {
+					return ResponseEntity.ok(new NotificationPreference());
+				}
+
+				@Override
+				public ResponseEntity<List<Notification>> getNotificationHistory(UUID userId) {
+					return ResponseEntity.ok(List.of());
+				}
+
+				@Override
+				public ResponseEntity<Void> sendNotification(NotificationRequest notificationRequest) {
+					return ResponseEntity.ok().build();
+				}
+
+				@Override
+				public ResponseEntity<Void> updateNotificationPreference(UUID userId, boolean enabled) {
+					return ResponseEntity.ok().build();
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package app.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class BenchmarkRegressionCheck {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+	private BenchmarkRegressionCheck() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 3) {
+			throw new IllegalArgumentException("Usage: BenchmarkRegressionCheck <result.json> <baseline.json> <tolerance-percent>");
+		}
+
+		Path resultFile = Path.of(args[0]);
+		Path baselineFile = Path.of(args[1]);
+		double tolerance = Double.parseDouble(args[2]) / 100;
+
+		if (!Files.exists(baselineFile)) {
+			System.out.printf("No benchmark baseline at %s, skipping regression check.%n", baselineFile);
+			return;
+		}
+
+		Map<String, JsonNode> baseline = readResults(baselineFile);
+		List<String> regressions = new ArrayList<>();
+
+		for (Map.Entry<String, JsonNode> entry : readResults(resultFile).entrySet()) {
+			JsonNode baselineResult = baseline.get(entry.getKey());
+			if (baselineResult == null) {
+				continue;
+			}
+
+			JsonNode result = entry.getValue();
+			boolean higherIsBetter = "thrpt".equals(result.path("mode").asText());
+			compare(entry.getKey(), baselineResult.path("primaryMetric"), result.path("primaryMetric"), higherIsBetter, tolerance, regressions);
+
+			JsonNode allocation = result.path("secondaryMetrics").path(ALLOCATION_METRIC);
+			JsonNode baselineAllocation = baselineResult.path("secondaryMetrics").path(ALLOCATION_METRIC);
+			if (!allocation.isMissingNode() && !baselineAllocation.isMissingNode()) {
+				compare(entry.getKey() + ":" + ALLOCATION_METRIC, baselineAllocation, allocation, false, tolerance, regressions);
+			}
+		}
+
+		if (!regressions.isEmpty()) {
+			System.err.printf("%d benchmark(s) regressed by more than %s%%.%n", regressions.size(), args[2]);
+			System.exit(1);
+		}
+	}
+
+	private static void compare(String name, JsonNode baselineMetric, JsonNode metric, boolean higherIsBetter, double tolerance, List<String> regressions) {
+		double current = metric.path("score").asDouble();
+		double previous = baselineMetric.path("score").asDouble();
+		double change = previous == 0 ? 0 : (current - previous) / previous;
+		boolean regressed = higherIsBetter ? change < -tolerance : change > tolerance;
+
+		String line = "%s: %.3f -> %.3f %s (%+.1f%%)".formatted(name, previous, current, metric.path("scoreUnit").asText(), change * 100);
+		System.out.println((regressed ? "REGRESSION " : "ok         ") + line);
+		if (regressed) {
+			regressions.add(line);
+		}
+	}
+
+	private static Map<String, JsonNode> readResults(Path file) throws IOException {
+		Map<String, JsonNode> results = new LinkedHashMap<>();
+		for (JsonNode result : OBJECT_MAPPER.readTree(file.toFile())) {
+			results.put(result.path("benchmark").asText() + result.path("params"), result);
+		}
+		return results;
+	}
+}
@@ -0,0 +1,71 @@
+package app.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingAllocationBenchmark {
+
+	private static final Logger log = (Logger) LoggerFactory.getLogger(LoggingAllocationBenchmark.class);
+
+	private UUID walletId = UUID.randomUUID();
+	private BigDecimal amount = new BigDecimal("20.00");
+	private String sender = "wallet-sender";
+	private String receiver = "wallet-receiver";
+
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void setUp() {
+		log.setLevel(Level.WARN);
+	}
+
+	@Benchmark
+	public void formattedDisabledLog() {
+		log.info("Successfully created new wallet with id [%s] and balance [%.2f].".formatted(walletId, amount));
+	}
+
+	@Benchmark
+	public void parameterizedDisabledLog() {
+		log.info("Successfully created new wallet with id [{}] and balance [{}].", walletId, amount);
+	}
+
+	@Benchmark
+	public String formattedTransferDescription() {
+		return "Transfer from %s to %s, for %.2f EUR.".formatted(sender, receiver, amount);
+	}
+
+	@Benchmark
+	public String concatenatedTransferDescription() {
+		return "Transfer from " + sender + " to " + receiver + ", for " + amount.setScale(2, RoundingMode.HALF_UP).toPlainString() + " EUR.";
+	}
+
+	@Benchmark
+	public String formattedTopUpDescription() {
+		return "Top up %.2f".formatted(amount.doubleValue());
+	}
+
+	@Benchmark
+	public String concatenatedTopUpDescription() {
+		return "Top up " + amount.setScale(2, RoundingMode.HALF_UP).toPlainString();
+	}
+}
@@ -0,0 +1,51 @@
+package app.fx.model;
+
+import app.exception.DomainException;
+import app.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FxRateSnapshotTest {
+
+	private static final Currency USD = Currency.getInstance("USD");
+	private static final Currency JPY = Currency.getInstance("JPY");
+	private static final Currency GBP = Currency.getInstance("GBP");
+
+	private final FxRateSnapshot snapshot = new FxRateSnapshot(Money.EUR, Map.of(
+			Money.EUR, BigDecimal.ONE,
+			USD, new BigDecimal("1.0850"),
+			JPY, new BigDecimal("162.50")), Instant.EPOCH);
+
+	@Test
+	void convertsBetweenCurrenciesWithDifferentMinorUnitsRoundingHalfUp() {
+		Money amount = Money.ofMinor(1_001, Money.EUR);
+
+		assertSame(amount, snapshot.convert(amount, Money.EUR));
+		assertEquals(Money.ofMinor(1_086, USD), snapshot.convert(amount, USD));
+		assertEquals(Money.ofMinor(-1_086, USD), snapshot.convert(amount.negate(), USD));
+		assertEquals(Money.ofMinor(1_627, JPY), snapshot.convert(amount, JPY));
+		assertEquals(Money.ofMinor(1_001, Money.EUR), snapshot.convert(Money.ofMinor(1_627, JPY), Money.EUR));
+	}
+
+	@Test
+	void largeAmountsFallBackToExactArithmetic() {
+		Money amount = Money.ofMinor(Long.MAX_VALUE / 1_000, Money.EUR);
+
+		BigDecimal expected = amount.toBigDecimal().multiply(new BigDecimal("1.0850")).setScale(2, RoundingMode.HALF_UP);
+		assertEquals(Money.of(expected, USD), snapshot.convert(amount, USD));
+	}
+
+	@Test
+	void rejectsUnsupportedCurrencies() {
+		assertThrows(DomainException.class, () -> snapshot.convert(Money.ofMinor(100, Money.EUR), GBP));
+	}
+}
@@ -0,0 +1,56 @@
+package app.fx.service;
+
+import app.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FxRateServiceBenchmark {
+
+	private static final Currency USD = Currency.getInstance("USD");
+	private static final Money AMOUNT = Money.ofMinor(12_345, Money.EUR);
+
+	private FxRateService fxRateService;
+	private BigDecimal eurToUsd;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		fxRateService = new FxRateService(new FxRateProperties(), new DefaultResourceLoader());
+		eurToUsd = fxRateService.getSnapshot().getRatePerBase(USD);
+	}
+
+	@Benchmark
+	public Money sameCurrency() {
+		return fxRateService.convert(AMOUNT, Money.EUR);
+	}
+
+	@Benchmark
+	public Money crossCurrency() {
+		return fxRateService.convert(AMOUNT, USD);
+	}
+
+	@Benchmark
+	public Money crossCurrencyBigDecimal() {
+		return Money.of(AMOUNT.toBigDecimal().multiply(eurToUsd).setScale(2, RoundingMode.HALF_UP), USD);
+	}
+}
@@ -0,0 +1,209 @@
+package app.idempotency.service;
+
+import app.Application;
+import app.benchmark.BenchmarkApplication;
+import app.exception.DomainException;
+import app.idempotency.model.IdempotencyRecord;
+import app.idempotency.model.IdempotentOperation;
+import app.idempotency.repository.IdempotencyRecordRepository;
+import app.money.Money;
+import app.transaction.repository.TransactionRepository;
+import app.user.model.Country;
+import app.user.model.User;
+import app.user.service.UserService;
+import app.wallet.model.Wallet;
+import app.wallet.repository.WalletRepository;
+import app.wallet.service.WalletService;
+import app.web.dto.RegisterRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = {Application.class, BenchmarkApplication.StubNotificationConfiguration.class},
+		properties = "spring.datasource.url=jdbc:h2:mem:idempotency;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("benchmark")
+class IdempotencyServiceTest {
+
+	private static final Money TOP_UP_AMOUNT = Money.ofMinor(2_000, Money.EUR);
+
+	@Autowired
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private WalletService walletService;
+
+	@Autowired
+	private WalletRepository walletRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	private IdempotencyService idempotencyService;
+	private UUID ownerId;
+
+	@BeforeEach
+	void setUp() {
+		idempotencyService = new IdempotencyService(idempotencyRecordRepository, transactionManager);
+		ownerId = UUID.randomUUID();
+	}
+
+	@Test
+	void replayedKeyReturnsStoredResultWithoutExecutingOperation() {
+		UUID transactionId = UUID.randomUUID();
+		UUID walletId = UUID.randomUUID();
+
+		UUID first = idempotencyService.execute(ownerId, IdempotentOperation.TOP_UP, "top-up-key", walletId, () -> transactionId);
+		UUID replayed = new IdempotencyService(idempotencyRecordRepository, transactionManager)
+				.execute(ownerId, IdempotentOperation.TOP_UP, "top-up-key", walletId, () -> {
+					throw new IllegalStateException("Operation must not be executed");
+				});
+
+		assertEquals(transactionId, first);
+		assertEquals(transactionId, replayed);
+	}
+
+	@Test
+	void replayOnSameNodeIsAnsweredFromMemory() {
+		UUID transactionId = UUID.randomUUID();
+		UUID walletId = UUID.randomUUID();
+
+		idempotencyService.execute(ownerId, IdempotentOperation.TOP_UP, "cached-key", walletId, () -> transactionId);
+		idempotencyRecordRepository.deleteAll();
+
+		assertEquals(transactionId, idempotencyService.execute(ownerId, IdempotentOperation.TOP_UP, "cached-key", walletId, () -> {
+			throw new IllegalStateException("Operation must not be executed");
+		}));
+	}
+
+	@Test
+	void sameKeyIsScopedPerOperation() {
+		UUID walletId = UUID.randomUUID();
+
+		UUID topUpId = idempotencyService.execute(ownerId, IdempotentOperation.TOP_UP, "shared-key", walletId, UUID::randomUUID);
+		UUID transferId = idempotencyService.execute(ownerId, IdempotentOperation.TRANSFER, "shared-key", walletId, UUID::randomUUID);
+
+		assertNotEquals(topUpId, transferId);
+	}
+
+	@Test
+	void replayedKeyWithDifferentRequestIsRejected() {
+		idempotencyService.execute(ownerId, IdempotentOperation.TOP_UP, "top-up-key", UUID.randomUUID(), UUID::randomUUID);
+
+		assertThrows(DomainException.class, () -> idempotencyService.execute(ownerId, IdempotentOperation.TOP_UP, "top-up-key",
+				UUID.randomUUID(), UUID::randomUUID));
+	}
+
+	@Test
+	void concurrentDuplicatesAcrossNodesTopUpExactlyOnce() throws Exception {
+		User user = userService.register(RegisterRequest.builder()
+				.username("idempotency-" + UUID.randomUUID().toString().substring(0, 8))
+				.password("123456")
+				.country(Country.BULGARIA)
+				.build());
+		Wallet wallet = walletRepository.findAllWalletsByOwnerUsername(user.getUsername()).get(0);
+		BigDecimal initialBalance = wallet.getBalance();
+		int initialTransactions = transactionRepository.findAllByOwnerIdOrderByCreatedOnDesc(user.getId()).size();
+
+		List<IdempotencyService> nodes = List.of(idempotencyService, new IdempotencyService(idempotencyRecordRepository, transactionManager));
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<UUID>> results = new ArrayList<>();
+
+		for (int i = 0; i < threads; i++) {
+			IdempotencyService node = nodes.get(i % nodes.size());
+			results.add(executor.submit(() -> {
+				start.await();
+				return node.execute(user.getId(), IdempotentOperation.TOP_UP, "top-up-key", wallet.getId(),
+						() -> walletService.topUp(wallet.getId(), TOP_UP_AMOUNT).getId());
+			}));
+		}
+
+		start.countDown();
+		UUID transactionId = results.get(0).get(10, TimeUnit.SECONDS);
+		for (Future<UUID> result : results) {
+			assertEquals(transactionId, result.get(10, TimeUnit.SECONDS));
+		}
+		executor.shutdown();
+
+		assertEquals(0, initialBalance.add(TOP_UP_AMOUNT.toBigDecimal()).compareTo(walletRepository.findCurrentById(wallet.getId()).orElseThrow().getBalance()));
+		assertEquals(initialTransactions + 1, transactionRepository.findAllByOwnerIdOrderByCreatedOnDesc(user.getId()).size());
+		assertTrue(transactionRepository.existsById(transactionId));
+	}
+
+	@Test
+	void keyStoredConcurrentlyByAnotherNodeRollsBackTheDuplicate() throws Exception {
+		IdempotencyService otherNode = new IdempotencyService(idempotencyRecordRepository, transactionManager);
+		UUID otherNodeResult = UUID.randomUUID();
+		String sideEffectId = "side-effect:" + UUID.randomUUID();
+		CountDownLatch otherNodeStored = new CountDownLatch(1);
+
+		UUID result = idempotencyService.execute(ownerId, IdempotentOperation.TRANSFER, "transfer-key", "request", () -> {
+			CompletableFuture.runAsync(() -> {
+				otherNode.execute(ownerId, IdempotentOperation.TRANSFER, "transfer-key", "request", () -> otherNodeResult);
+				otherNodeStored.countDown();
+			});
+			await(otherNodeStored);
+
+			idempotencyRecordRepository.save(IdempotencyRecord.builder()
+					.id(sideEffectId)
+					.ownerId(ownerId)
+					.requestFingerprint("side-effect")
+					.resultId(UUID.randomUUID())
+					.createdOn(LocalDateTime.now())
+					.build());
+			return UUID.randomUUID();
+		});
+
+		assertEquals(otherNodeResult, result);
+		assertFalse(idempotencyRecordRepository.existsById(sideEffectId));
+	}
+
+	@Test
+	void failedOperationReleasesKeyForRetry() {
+		UUID transactionId = UUID.randomUUID();
+
+		assertThrows(DomainException.class, () -> idempotencyService.execute(ownerId, IdempotentOperation.SUBSCRIPTION_UPGRADE, "upgrade-key",
+				"request", () -> {
+					throw new DomainException("Wallet does not exist.");
+				}));
+
+		assertEquals(transactionId, idempotencyService.execute(ownerId, IdempotentOperation.SUBSCRIPTION_UPGRADE, "upgrade-key",
+				"request", () -> transactionId));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
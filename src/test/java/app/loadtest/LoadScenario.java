@@ -0,0 +1,351 @@
+package app.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public final class LoadScenario {
+
+	private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+	private static final Map<String, Integer> TRAFFIC_MIX = new LinkedHashMap<>();
+
+	static {
+		TRAFFIC_MIX.put("home", 35);
+		TRAFFIC_MIX.put("wallets", 20);
+		TRAFFIC_MIX.put("notifications", 15);
+		TRAFFIC_MIX.put("transfer", 15);
+		TRAFFIC_MIX.put("top-up", 10);
+		TRAFFIC_MIX.put("upgrade", 5);
+	}
+
+	private final URI target;
+	private final List<String[]> users;
+	private final int actionsPerSession;
+	private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+	private final LongAdder liveEvents = new LongAdder();
+	private volatile long measureFrom;
+	private volatile long measureUntil;
+
+	private LoadScenario(URI target, List<String[]> users, int actionsPerSession) {
+		this.target = target;
+		this.users = users;
+		this.actionsPerSession = actionsPerSession;
+		this.stats.put("login", new EndpointStats());
+		TRAFFIC_MIX.keySet().forEach(endpoint -> this.stats.put(endpoint, new EndpointStats()));
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = Arrays.stream(args)
+				.map(arg -> arg.split("=", 2))
+				.collect(Collectors.toMap(option -> option[0], option -> option[1]));
+
+		URI target = URI.create(options.getOrDefault("target", "http://localhost:8080"));
+		Path manifest = Path.of(options.getOrDefault("manifest", "target/loadtest-users.csv"));
+		int virtualUsers = Integer.parseInt(options.getOrDefault("virtual-users", "50"));
+		Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+		Duration duration = Duration.parse(options.getOrDefault("duration", "PT60S"));
+		int actionsPerSession = Integer.parseInt(options.getOrDefault("actions-per-session", "20"));
+
+		List<String[]> users = Files.readAllLines(manifest).stream()
+				.skip(1)
+				.map(line -> line.split(","))
+				.toList();
+		if (users.size() < 2) {
+			throw new IllegalStateException("Manifest [%s] needs at least two seeded users.".formatted(manifest));
+		}
+
+		new LoadScenario(target, users, actionsPerSession).run(virtualUsers, warmup, duration);
+	}
+
+	private void run(int virtualUsers, Duration warmup, Duration duration) throws InterruptedException {
+		long start = System.nanoTime();
+		this.measureFrom = start + warmup.toNanos();
+		this.measureUntil = this.measureFrom + duration.toNanos();
+
+		ExecutorService executor = Executors.newFixedThreadPool(virtualUsers);
+		for (int i = 0; i < virtualUsers; i++) {
+			String[] user = this.users.get(i % this.users.size());
+			executor.submit(() -> new VirtualUser(user[0], user[1]).run());
+		}
+		executor.shutdown();
+		executor.awaitTermination(warmup.plus(duration).plusMinutes(1).toMillis(), TimeUnit.MILLISECONDS);
+		executor.shutdownNow();
+
+		report(virtualUsers, duration);
+	}
+
+	private void report(int virtualUsers, Duration duration) {
+		double seconds = duration.toMillis() / 1000.0;
+		long total = 0;
+
+		System.out.printf("%nLoad test against %s, %d virtual users, %d s measured%n", this.target, virtualUsers, duration.toSeconds());
+		System.out.printf("%-14s %9s %7s %10s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+		for (Map.Entry<String, EndpointStats> entry : this.stats.entrySet()) {
+			EndpointStats endpointStats = entry.getValue();
+			long[] latencies = endpointStats.sortedLatencies();
+			total += latencies.length;
+			System.out.printf("%-14s %9d %7d %10.1f %9.1f %9.1f %9.1f%n",
+					entry.getKey(),
+					latencies.length,
+					endpointStats.errors(),
+					latencies.length / seconds,
+					percentile(latencies, 0.50),
+					percentile(latencies, 0.99),
+					latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1_000_000.0);
+		}
+		System.out.printf("%-14s %9d %7s %10.1f%n", "total", total, "", total / seconds);
+		System.out.printf("%-14s %9d %7s %10.1f%n", "live events", liveEvents.sum(), "", liveEvents.sum() / seconds);
+	}
+
+	private static double percentile(long[] sortedLatencies, double percentile) {
+		if (sortedLatencies.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+		return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+	}
+
+	private class VirtualUser {
+
+		private final String username;
+		private final String walletId;
+		private final HttpClient client;
+		private final Map<String, String> etags = new HashMap<>();
+		private String csrfToken;
+
+		VirtualUser(String username, String walletId) {
+			this.username = username;
+			this.walletId = walletId;
+			this.client = HttpClient.newBuilder()
+					.cookieHandler(new CookieManager())
+					.followRedirects(HttpClient.Redirect.NEVER)
+					.connectTimeout(Duration.ofSeconds(5))
+					.build();
+		}
+
+		void run() {
+			while (System.nanoTime() < measureUntil && !Thread.currentThread().isInterrupted()) {
+				try {
+					if (!login()) {
+						continue;
+					}
+					LiveStream liveStream = openLiveStream();
+					try {
+						get("wallets", "/wallets");
+						for (int i = 0; i < actionsPerSession && System.nanoTime() < measureUntil; i++) {
+							perform(nextAction());
+						}
+					} finally {
+						liveStream.close();
+					}
+					send(HttpRequest.newBuilder(target.resolve("/logout")).GET().build());
+				} catch (IOException e) {
+					this.csrfToken = null;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		private LiveStream openLiveStream() {
+			LiveStream liveStream = new LiveStream();
+			this.client.sendAsync(HttpRequest.newBuilder(target.resolve("/live")).GET().build(),
+					HttpResponse.BodyHandlers.fromLineSubscriber(liveStream));
+			return liveStream;
+		}
+
+		private boolean login() throws IOException, InterruptedException {
+			this.etags.clear();
+			send(HttpRequest.newBuilder(target.resolve("/login")).GET().build());
+
+			long start = System.nanoTime();
+			HttpResponse<String> response = send(form("/login", Map.of("username", this.username, "password", LoadTestDataGenerator.PASSWORD)));
+			boolean succeeded = response.statusCode() == 302
+					&& response.headers().firstValue("Location").map(location -> location.endsWith("/home")).orElse(false);
+			record("login", start, succeeded);
+			return succeeded;
+		}
+
+		private void perform(String action) throws IOException, InterruptedException {
+			switch (action) {
+				case "home" -> get(action, "/home");
+				case "wallets" -> get(action, "/wallets");
+				case "notifications" -> get(action, "/notifications");
+				case "transfer" -> post(action, "/transfers", Map.of(
+						"fromWalletId", this.walletId,
+						"usernameReceiver", randomReceiver(),
+						"amount", "1.00",
+						"idempotencyKey", UUID.randomUUID().toString()));
+				case "top-up" -> post(action, "/wallets/" + this.walletId + "/top-up", Map.of(
+						"_method", "put",
+						"idempotencyKey", UUID.randomUUID().toString()));
+				case "upgrade" -> post(action, "/subscriptions?subscription-type=PREMIUM", Map.of(
+						"subscriptionPeriod", "MONTHLY",
+						"walletId", this.walletId,
+						"idempotencyKey", UUID.randomUUID().toString()));
+				default -> throw new IllegalArgumentException(action);
+			}
+		}
+
+		private void get(String endpoint, String path) throws IOException, InterruptedException {
+			long start = System.nanoTime();
+			HttpRequest.Builder request = HttpRequest.newBuilder(target.resolve(path)).GET();
+			String etag = this.etags.get(path);
+			if (etag != null) {
+				request.header("If-None-Match", etag);
+			}
+
+			HttpResponse<String> response = send(request.build());
+			response.headers().firstValue("ETag").ifPresent(newEtag -> this.etags.put(path, newEtag));
+			record(endpoint, start, response.statusCode() == 200 || response.statusCode() == 304);
+		}
+
+		private void post(String endpoint, String path, Map<String, String> fields) throws IOException, InterruptedException {
+			long start = System.nanoTime();
+			HttpResponse<String> response = send(form(path, fields));
+			boolean succeeded = response.statusCode() == 302
+					&& response.headers().firstValue("Location").map(location -> !location.contains("/login")).orElse(false);
+			record(endpoint, start, succeeded);
+		}
+
+		private HttpRequest form(String path, Map<String, String> fields) {
+			Map<String, String> body = new HashMap<>(fields);
+			if (this.csrfToken != null) {
+				body.put("_csrf", this.csrfToken);
+			}
+			String encoded = body.entrySet().stream()
+					.map(field -> URLEncoder.encode(field.getKey(), StandardCharsets.UTF_8) + "=" + URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8))
+					.collect(Collectors.joining("&"));
+
+			return HttpRequest.newBuilder(target.resolve(path))
+					.header("Content-Type", "application/x-www-form-urlencoded")
+					.POST(HttpRequest.BodyPublishers.ofString(encoded))
+					.build();
+		}
+
+		private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+			HttpResponse<String> response = this.client.send(request, HttpResponse.BodyHandlers.ofString());
+			Matcher matcher = CSRF_TOKEN.matcher(response.body());
+			if (matcher.find()) {
+				this.csrfToken = matcher.group(1);
+			}
+			return response;
+		}
+
+		private String nextAction() {
+			int roll = ThreadLocalRandom.current().nextInt(100);
+			for (Map.Entry<String, Integer> entry : TRAFFIC_MIX.entrySet()) {
+				roll -= entry.getValue();
+				if (roll < 0) {
+					return entry.getKey();
+				}
+			}
+			return "home";
+		}
+
+		private String randomReceiver() {
+			String receiver;
+			do {
+				receiver = users.get(ThreadLocalRandom.current().nextInt(users.size()))[0];
+			} while (receiver.equals(this.username));
+			return receiver;
+		}
+
+		private void record(String endpoint, long start, boolean succeeded) {
+			long end = System.nanoTime();
+			if (start >= measureFrom && end <= measureUntil) {
+				stats.get(endpoint).record(end - start, succeeded);
+			}
+		}
+	}
+
+	private class LiveStream implements Flow.Subscriber<String> {
+
+		private volatile Flow.Subscription subscription;
+		private volatile boolean closed;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			if (this.closed) {
+				subscription.cancel();
+			} else {
+				subscription.request(Long.MAX_VALUE);
+			}
+		}
+
+		@Override
+		public void onNext(String line) {
+			long now = System.nanoTime();
+			if (line.startsWith("event:") && now >= measureFrom && now <= measureUntil) {
+				liveEvents.increment();
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+		}
+
+		@Override
+		public void onComplete() {
+		}
+
+		void close() {
+			this.closed = true;
+			if (this.subscription != null) {
+				this.subscription.cancel();
+			}
+		}
+	}
+
+	private static class EndpointStats {
+
+		private long[] latencies = new long[1024];
+		private int count;
+		private long errors;
+
+		synchronized void record(long latency, boolean succeeded) {
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = latency;
+			if (!succeeded) {
+				errors++;
+			}
+		}
+
+		synchronized long[] sortedLatencies() {
+			long[] sorted = Arrays.copyOf(latencies, count);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+
+		synchronized long errors() {
+			return errors;
+		}
+	}
+}
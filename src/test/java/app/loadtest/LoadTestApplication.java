@@ -0,0 +1,76 @@
+package app.loadtest;
+
+import app.Application;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+public final class LoadTestApplication {
+
+	private LoadTestApplication() {
+	}
+
+	public static void main(String[] args) {
+		new SpringApplicationBuilder(Application.class, LoadTestConfiguration.class)
+				.profiles("loadtest")
+				.run(args);
+	}
+
+	@Slf4j
+	static class LoadTestConfiguration {
+
+		@Bean(destroyMethod = "stop")
+		NotificationServiceStub notificationServiceStub(@Value("${loadtest.notification.latency}") Duration latency,
+														@Value("${loadtest.notification.threads}") int threads) throws IOException {
+			return NotificationServiceStub.start(NotificationServiceStub.PORT, latency, threads);
+		}
+
+		@Bean
+		@Order
+		CommandLineRunner loadTestDataSeeder(EntityManagerFactory entityManagerFactory,
+											 PasswordEncoder passwordEncoder,
+											 WebServerApplicationContext webServerApplicationContext,
+											 @Value("${loadtest.seed.users}") int users,
+											 @Value("${loadtest.seed.transactions-per-user}") int transactionsPerUser,
+											 @Value("${loadtest.seed.history-days}") int historyDays,
+											 @Value("${loadtest.manifest}") Path manifest) {
+			return args -> {
+				if (users > 0) {
+					long start = System.nanoTime();
+					List<LoadTestDataGenerator.SeededUser> seededUsers = new LoadTestDataGenerator(entityManagerFactory.unwrap(SessionFactory.class), passwordEncoder)
+							.seed(users, transactionsPerUser, historyDays);
+					writeManifest(manifest, seededUsers);
+					log.info("Seeded [%d] users with [%d] transactions each in [%d ms], manifest written to [%s]."
+							.formatted(users, transactionsPerUser, Duration.ofNanos(System.nanoTime() - start).toMillis(), manifest.toAbsolutePath()));
+				}
+
+				log.info("Load-test target running at [http://localhost:%d]."
+						.formatted(webServerApplicationContext.getWebServer().getPort()));
+			};
+		}
+
+		private static void writeManifest(Path manifest, List<LoadTestDataGenerator.SeededUser> seededUsers) throws IOException {
+			if (manifest.getParent() != null) {
+				Files.createDirectories(manifest.getParent());
+			}
+			Files.write(manifest, Stream.concat(
+							Stream.of("username,walletId"),
+							seededUsers.stream().map(user -> user.getUsername() + "," + user.getWalletId()))
+					.toList());
+		}
+	}
+}
@@ -0,0 +1,250 @@
+package app.loadtest;
+
+import app.subscription.model.Subscription;
+import app.subscription.model.SubscriptionPeriod;
+import app.subscription.model.SubscriptionStatus;
+import app.subscription.model.SubscriptionType;
+import app.transaction.model.Transaction;
+import app.transaction.model.TransactionStatus;
+import app.transaction.model.TransactionType;
+import app.user.model.Country;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.wallet.model.Wallet;
+import app.wallet.model.WalletStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class LoadTestDataGenerator {
+
+	public static final String PASSWORD = "123456";
+
+	private static final String SMART_WALLET_LTD = "Smart Wallet Ltd";
+	private static final Currency EUR = Currency.getInstance("EUR");
+	private static final BigDecimal TOP_UP_AMOUNT = new BigDecimal("20.00");
+	private static final int JDBC_BATCH_SIZE = 500;
+	private static final int USERS_PER_CHUNK = 500;
+
+	private final SessionFactory sessionFactory;
+	private final String passwordHash;
+	private final Random random = new Random(42);
+
+	public LoadTestDataGenerator(SessionFactory sessionFactory, PasswordEncoder passwordEncoder) {
+		this.sessionFactory = sessionFactory;
+		this.passwordHash = passwordEncoder.encode(PASSWORD);
+	}
+
+	public List<SeededUser> seed(int users, int transactionsPerUser, int historyDays) {
+		List<SeededUser> seededUsers = new ArrayList<>(users);
+		for (int from = 0; from < users; from += USERS_PER_CHUNK) {
+			seededUsers.addAll(seedChunk(from, Math.min(users, from + USERS_PER_CHUNK), transactionsPerUser, historyDays));
+		}
+		return seededUsers;
+	}
+
+	private List<SeededUser> seedChunk(int from, int to, int transactionsPerUser, int historyDays) {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime historyStart = now.minusDays(historyDays);
+
+		try (StatelessSession session = this.sessionFactory.openStatelessSession()) {
+			session.setJdbcBatchSize(JDBC_BATCH_SIZE);
+			org.hibernate.Transaction transaction = session.beginTransaction();
+
+			List<Wallet> wallets = new ArrayList<>(to - from);
+			for (int i = from; i < to; i++) {
+				User user = User.builder()
+						.username("loadtest-user-%06d".formatted(i))
+						.password(this.passwordHash)
+						.role(UserRole.USER)
+						.country(Country.values()[i % Country.values().length])
+						.isActive(true)
+						.createdOn(historyStart)
+						.updatedOn(historyStart)
+						.build();
+				session.insert(user);
+				insertSubscriptions(session, user, historyStart, now);
+
+				Wallet wallet = Wallet.builder()
+						.owner(user)
+						.status(WalletStatus.ACTIVE)
+						.balance(BigDecimal.ZERO)
+						.currency(EUR)
+						.createdOn(historyStart)
+						.updatedOn(now)
+						.build();
+				session.insert(wallet);
+				wallets.add(wallet);
+			}
+
+			Map<Wallet, BigDecimal> balances = new HashMap<>();
+			wallets.forEach(wallet -> balances.put(wallet, BigDecimal.ZERO));
+
+			for (HistoryEvent event : generateHistory(wallets, transactionsPerUser, historyStart, now)) {
+				event.apply(session, balances);
+			}
+
+			for (Wallet wallet : wallets) {
+				wallet.setBalance(balances.get(wallet));
+				session.update(wallet);
+			}
+
+			transaction.commit();
+
+			return wallets.stream()
+					.map(wallet -> new SeededUser(wallet.getOwner().getUsername(), wallet.getId().toString()))
+					.toList();
+		}
+	}
+
+	private void insertSubscriptions(StatelessSession session, User user, LocalDateTime historyStart, LocalDateTime now) {
+		boolean upgraded = this.random.nextInt(10) < 3;
+
+		session.insert(Subscription.builder()
+				.owner(user)
+				.status(upgraded ? SubscriptionStatus.COMPLETED : SubscriptionStatus.ACTIVE)
+				.period(SubscriptionPeriod.MONTHLY)
+				.type(SubscriptionType.DEFAULT)
+				.price(new BigDecimal("0.00"))
+				.renewalAllowed(true)
+				.createdOn(historyStart)
+				.completedOn(upgraded ? now.minusMonths(1) : now.plusMonths(1))
+				.build());
+
+		if (upgraded) {
+			session.insert(Subscription.builder()
+					.owner(user)
+					.status(SubscriptionStatus.ACTIVE)
+					.period(SubscriptionPeriod.MONTHLY)
+					.type(this.random.nextBoolean() ? SubscriptionType.PREMIUM : SubscriptionType.ULTIMATE)
+					.price(new BigDecimal("19.99"))
+					.renewalAllowed(true)
+					.createdOn(now.minusMonths(1))
+					.completedOn(now.plusMonths(1))
+					.build());
+		}
+	}
+
+	private List<HistoryEvent> generateHistory(List<Wallet> wallets, int transactionsPerUser, LocalDateTime historyStart, LocalDateTime now) {
+		long historySeconds = Duration.between(historyStart, now).getSeconds();
+		List<HistoryEvent> events = new ArrayList<>(wallets.size() * transactionsPerUser);
+
+		for (Wallet wallet : wallets) {
+			for (int i = 0; i < transactionsPerUser; i++) {
+				LocalDateTime createdOn = historyStart.plusSeconds((long) (this.random.nextDouble() * historySeconds));
+				int kind = this.random.nextInt(10);
+				if (kind < 5) {
+					events.add(new HistoryEvent(createdOn, wallet, null, TOP_UP_AMOUNT));
+				} else if (kind < 7 || wallets.size() == 1) {
+					events.add(new HistoryEvent(createdOn, wallet, null, randomAmount().negate()));
+				} else {
+					Wallet receiver = wallets.get(this.random.nextInt(wallets.size()));
+					if (receiver != wallet) {
+						events.add(new HistoryEvent(createdOn, wallet, receiver, randomAmount()));
+					}
+				}
+			}
+		}
+
+		events.sort(Comparator.comparing(HistoryEvent::getCreatedOn));
+		return events;
+	}
+
+	private BigDecimal randomAmount() {
+		return BigDecimal.valueOf(1 + this.random.nextDouble() * 49).setScale(2, RoundingMode.HALF_UP);
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class SeededUser {
+
+		private final String username;
+
+		private final String walletId;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class HistoryEvent {
+
+		private final LocalDateTime createdOn;
+
+		private final Wallet wallet;
+
+		private final Wallet receiver;
+
+		private final BigDecimal amount;
+
+		void apply(StatelessSession session, Map<Wallet, BigDecimal> balances) {
+			if (this.receiver != null) {
+				applyTransfer(session, balances);
+			} else if (this.amount.signum() > 0) {
+				BigDecimal balance = balances.merge(this.wallet, this.amount, BigDecimal::add);
+				session.insert(transaction(this.wallet, SMART_WALLET_LTD, this.wallet.getId().toString(), this.amount, balance,
+						TransactionType.DEPOSIT, TransactionStatus.SUCCEEDED, "Top up %.2f".formatted(this.amount.doubleValue()), null));
+			} else {
+				BigDecimal charge = this.amount.negate();
+				BigDecimal balance = balances.get(this.wallet);
+				boolean succeeded = balance.compareTo(charge) >= 0;
+				if (succeeded) {
+					balance = balances.merge(this.wallet, charge.negate(), BigDecimal::add);
+				}
+				session.insert(transaction(this.wallet, this.wallet.getId().toString(), SMART_WALLET_LTD, charge, balance,
+						TransactionType.WITHDRAWAL, succeeded ? TransactionStatus.SUCCEEDED : TransactionStatus.FAILED,
+						"Purchase of Monthly Premium subscription", succeeded ? null : "Insufficient funds"));
+			}
+		}
+
+		private void applyTransfer(StatelessSession session, Map<Wallet, BigDecimal> balances) {
+			String senderUsername = this.wallet.getOwner().getUsername();
+			String receiverUsername = this.receiver.getOwner().getUsername();
+			String description = "Transfer from %s to %s, for %.2f EUR.".formatted(senderUsername, receiverUsername, this.amount);
+
+			BigDecimal senderBalance = balances.get(this.wallet);
+			if (senderBalance.compareTo(this.amount) < 0) {
+				session.insert(transaction(this.wallet, this.wallet.getId().toString(), receiverUsername, this.amount, senderBalance,
+						TransactionType.WITHDRAWAL, TransactionStatus.FAILED, description, "Insufficient funds"));
+				return;
+			}
+
+			senderBalance = balances.merge(this.wallet, this.amount.negate(), BigDecimal::add);
+			BigDecimal receiverBalance = balances.merge(this.receiver, this.amount, BigDecimal::add);
+
+			session.insert(transaction(this.wallet, this.wallet.getId().toString(), receiverUsername, this.amount, senderBalance,
+					TransactionType.WITHDRAWAL, TransactionStatus.SUCCEEDED, description, null));
+			session.insert(transaction(this.receiver, this.wallet.getId().toString(), this.receiver.getId().toString(), this.amount, receiverBalance,
+					TransactionType.DEPOSIT, TransactionStatus.SUCCEEDED, description, null));
+		}
+
+		private Transaction transaction(Wallet owner, String sender, String receiver, BigDecimal amount, BigDecimal balanceLeft,
+										TransactionType type, TransactionStatus status, String description, String failureReason) {
+			return Transaction.builder()
+					.owner(owner.getOwner())
+					.sender(sender)
+					.receiver(receiver)
+					.amount(amount)
+					.balanceLeft(balanceLeft)
+					.currency(EUR)
+					.type(type)
+					.status(status)
+					.description(description)
+					.failureReason(failureReason)
+					.createdOn(this.createdOn)
+					.build();
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package app.loadtest;
+
+import app.notification.client.dto.Notification;
+import app.notification.client.dto.NotificationPreference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+public class NotificationServiceStub {
+
+	public static final int PORT = 8081;
+
+	private static final String BASE_PATH = "/api/v1/notifications";
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+			.findAndRegisterModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	private final Duration latency;
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	private NotificationServiceStub(int port, Duration latency, int threads) throws IOException {
+		this.latency = latency;
+		this.server = HttpServer.create(new InetSocketAddress(port), 0);
+		this.executor = Executors.newFixedThreadPool(threads);
+		this.server.createContext(BASE_PATH, this::handle);
+		this.server.setExecutor(this.executor);
+	}
+
+	public static NotificationServiceStub start(int port, Duration latency, int threads) throws IOException {
+		NotificationServiceStub stub = new NotificationServiceStub(port, latency, threads);
+		stub.server.start();
+		log.info("Notification service stub listening on port [%d] with [%d ms] latency."
+				.formatted(port, latency.toMillis()));
+		return stub;
+	}
+
+	public void stop() {
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			exchange.getRequestBody().readAllBytes();
+			simulateLatency();
+
+			String path = exchange.getRequestURI().getPath();
+			String method = exchange.getRequestMethod();
+
+			if ("GET".equals(method) && path.endsWith("/preferences")) {
+				NotificationPreference preference = new NotificationPreference();
+				preference.setNotificationType("EMAIL");
+				preference.setEnabled(false);
+				respond(exchange, preference);
+			} else if ("GET".equals(method)) {
+				respond(exchange, notificationHistory());
+			} else {
+				exchange.sendResponseHeaders(200, -1);
+			}
+		}
+	}
+
+	private List<Notification> notificationHistory() {
+		Notification notification = new Notification();
+		notification.setSubject("Successful top up");
+		notification.setCreatedOn(LocalDateTime.now());
+		notification.setStatus("SUCCEEDED");
+		notification.setType("EMAIL");
+		return List.of(notification);
+	}
+
+	private void respond(HttpExchange exchange, Object body) throws IOException {
+		byte[] json = this.objectMapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, json.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(json);
+		}
+	}
+
+	private void simulateLatency() {
+		if (this.latency.isZero()) {
+			return;
+		}
+		try {
+			Thread.sleep(this.latency.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package app.persistence;
+
+import app.benchmark.BenchmarkApplication;
+import app.money.Money;
+import app.transaction.model.Transaction;
+import app.transaction.service.TransactionService;
+import app.user.model.Country;
+import app.user.model.User;
+import app.user.service.UserService;
+import app.wallet.service.WalletService;
+import app.web.dto.RegisterRequest;
+import app.web.dto.TransferRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class ConnectionPoolProfileBenchmark {
+
+	private static final String RECEIVER = "pool-receiver";
+	private static final int SENDERS = 32;
+	private static final int HISTORY_SIZE = 50;
+
+	@Param({"default", "production"})
+	private String profile;
+
+	private ConfigurableApplicationContext context;
+	private UserService userService;
+	private WalletService walletService;
+	private TransactionService transactionService;
+	private final List<User> senders = new ArrayList<>();
+	private final AtomicInteger nextSender = new AtomicInteger();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkApplication.start(profile.equals("default") ? List.of() : List.of(profile));
+		userService = context.getBean(UserService.class);
+		walletService = context.getBean(WalletService.class);
+		transactionService = context.getBean(TransactionService.class);
+
+		register(RECEIVER);
+		for (int i = 0; i < SENDERS; i++) {
+			User sender = userService.getById(register("pool-sender-" + i).getId());
+			UUID walletId = sender.getWallets().get(0).getId();
+			for (int j = 0; j < HISTORY_SIZE; j++) {
+				walletService.topUp(walletId, Money.ofMinor(100_000, Money.EUR));
+			}
+			senders.add(sender);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@State(Scope.Thread)
+	public static class Sender {
+
+		private User user;
+		private UUID walletId;
+
+		@Setup(Level.Trial)
+		public void setUp(ConnectionPoolProfileBenchmark benchmark) {
+			user = benchmark.senders.get(benchmark.nextSender.getAndIncrement() % SENDERS);
+			walletId = user.getWallets().get(0).getId();
+		}
+	}
+
+	@Benchmark
+	public Transaction transfer(Sender sender) {
+		TransferRequest transferRequest = TransferRequest.builder()
+				.fromWalletId(sender.walletId)
+				.usernameReceiver(RECEIVER)
+				.amount(new BigDecimal("0.01"))
+				.build();
+
+		return walletService.transferFunds(sender.user, transferRequest);
+	}
+
+	@Benchmark
+	public List<Transaction> history(Sender sender) {
+		return transactionService.getAllByOwnerId(sender.user.getId());
+	}
+
+	private User register(String username) {
+		return userService.register(RegisterRequest.builder()
+				.username(username)
+				.password("123456")
+				.country(Country.BULGARIA)
+				.build());
+	}
+}
@@ -0,0 +1,110 @@
+package app.persistence;
+
+import app.security.AuthenticationMetaData;
+import app.user.model.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingDataSourceTest {
+
+	private static final String PRIMARY_URL = "jdbc:h2:mem:routing_primary";
+	private static final String REPLICA_URL = "jdbc:h2:mem:routing_replica";
+
+	private ReplicaProperties properties;
+
+	@BeforeEach
+	void setUp() {
+		properties = new ReplicaProperties();
+		properties.setLagQuery("select 0");
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReplicaAndWritesGoToPrimary() throws SQLException {
+		ReplicaRoutingDataSource dataSource = createDataSource();
+
+		beginTransaction(true);
+		assertEquals(REPLICA_URL, connectedUrl(dataSource));
+
+		beginTransaction(false);
+		assertEquals(PRIMARY_URL, connectedUrl(dataSource));
+	}
+
+	@Test
+	void readsStayOnPrimaryAfterUserWrites() throws SQLException {
+		ReplicaRoutingDataSource dataSource = createDataSource();
+		authenticate(UUID.randomUUID());
+
+		beginTransaction(false);
+		assertEquals(PRIMARY_URL, connectedUrl(dataSource));
+
+		beginTransaction(true);
+		assertEquals(PRIMARY_URL, connectedUrl(dataSource));
+
+		authenticate(UUID.randomUUID());
+		assertEquals(REPLICA_URL, connectedUrl(dataSource));
+	}
+
+	@Test
+	void laggingReplicaFallsBackToPrimary() throws SQLException {
+		properties.setLagQuery("select 60");
+		ReplicaRoutingDataSource dataSource = createDataSource();
+
+		beginTransaction(true);
+		assertEquals(PRIMARY_URL, connectedUrl(dataSource));
+	}
+
+	@Test
+	void replicaWithoutReplicationStatusFallsBackToPrimary() throws SQLException {
+		properties.setLagQuery("select 0 where 1 = 0");
+		ReplicaRoutingDataSource dataSource = createDataSource();
+
+		beginTransaction(true);
+		assertEquals(PRIMARY_URL, connectedUrl(dataSource));
+	}
+
+	private ReplicaRoutingDataSource createDataSource() {
+		ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(
+				new DriverManagerDataSource(PRIMARY_URL, "sa", ""),
+				List.of(new DriverManagerDataSource(REPLICA_URL, "sa", "")),
+				properties);
+		dataSource.afterPropertiesSet();
+		dataSource.checkReplicaLag();
+		return dataSource;
+	}
+
+	private static void beginTransaction(boolean readOnly) {
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+	}
+
+	private static void authenticate(UUID userId) {
+		AuthenticationMetaData principal = new AuthenticationMetaData(userId, "user", "password", UserRole.USER, true);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	private static String connectedUrl(ReplicaRoutingDataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			return connection.getMetaData().getURL();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package app.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SchemaMigrationTest {
+
+	private static final String BASELINE_SCRIPT = "classpath:db/ddl-auto-baseline-schema.sql";
+
+	@Test
+	void databaseCreatedByDdlAutoIsBaselinedAndMigratedToCurrentSchema() {
+		DataSource dataSource = dataSource("migration_from_baseline");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("RUNSCRIPT FROM '" + BASELINE_SCRIPT + "'");
+
+		UUID userId = UUID.randomUUID();
+		UUID transactionId = UUID.randomUUID();
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update("INSERT INTO `user` (id, username, password, is_active, created_on, updated_on) VALUES (?, 'baseline', 'secret', TRUE, ?, ?)",
+				userId, now, now);
+		jdbcTemplate.update("""
+				INSERT INTO `transaction` (id, owner_id, sender, receiver, amount, balance_left, currency, type, status, description, created_on)
+				VALUES (?, ?, 'sender', 'receiver', 10.00, 10.00, 'EUR', 'DEPOSIT', 'SUCCEEDED', 'Top-up', ?)
+				""", transactionId, userId, now);
+
+		MigrateResult result = flyway(dataSource).migrate();
+
+		assertEquals("1", result.initialSchemaVersion);
+		assertEquals("7", result.targetSchemaVersion);
+		assertCurrentSchema(jdbcTemplate, userId);
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `transaction` WHERE id = ? AND rehydrated_on IS NULL", Integer.class, transactionId));
+	}
+
+	@Test
+	void emptyDatabaseIsMigratedFromFirstVersion() {
+		DataSource dataSource = dataSource("migration_from_empty");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+		MigrateResult result = flyway(dataSource).migrate();
+
+		assertEquals(7, result.migrationsExecuted);
+		UUID userId = UUID.randomUUID();
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update("INSERT INTO `user` (id, username, password, is_active, created_on, updated_on) VALUES (?, 'fresh', 'secret', TRUE, ?, ?)",
+				userId, now, now);
+		assertCurrentSchema(jdbcTemplate, userId);
+	}
+
+	private static void assertCurrentSchema(JdbcTemplate jdbcTemplate, UUID userId) {
+		LocalDateTime now = LocalDateTime.now();
+
+		jdbcTemplate.update("""
+				INSERT INTO `transaction` (id, owner_id, sender, receiver, amount, balance_left, currency, type, status, description, created_on, rehydrated_on)
+				VALUES (?, ?, 'sender', 'receiver', 1.00, 9.00, 'EUR', 'WITHDRAWAL', 'PENDING', 'Transfer', ?, ?)
+				""", UUID.randomUUID(), userId, now, now);
+		jdbcTemplate.update("""
+				INSERT INTO archived_transaction (id, owner_id, sender, receiver, amount, balance_left, currency, type, status, description, created_on, archived_on)
+				VALUES (?, ?, 'sender', 'receiver', 1.00, 9.00, 'EUR', 'WITHDRAWAL', 'SUCCEEDED', 'Transfer', ?, ?)
+				""", UUID.randomUUID(), userId, now, now);
+		jdbcTemplate.update("""
+				INSERT INTO transfer_order (id, sender_id, from_wallet_id, username_receiver, amount, status, created_on)
+				VALUES (?, ?, ?, 'receiver', 1.00, 'PENDING', ?)
+				""", UUID.randomUUID(), userId, UUID.randomUUID(), now);
+		jdbcTemplate.update("""
+				INSERT INTO idempotency_record (id, owner_id, request_fingerprint, result_id, created_on)
+				VALUES (?, ?, ?, ?, ?)
+				""", userId + ":TOP_UP:key", userId, "0".repeat(64), UUID.randomUUID(), now);
+
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM archived_transaction", Integer.class));
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transfer_order", Integer.class));
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_record", Integer.class));
+		assertEquals(1, jdbcTemplate.update("UPDATE `user` SET content_version = content_version + 1 WHERE id = ?", userId));
+	}
+
+	private static Flyway flyway(DataSource dataSource) {
+		return Flyway.configure()
+				.dataSource(dataSource)
+				.locations("classpath:db/migration")
+				.baselineOnMigrate(true)
+				.baselineVersion("1")
+				.load();
+	}
+
+	private static DataSource dataSource(String name) {
+		return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1", "sa", "");
+	}
+}
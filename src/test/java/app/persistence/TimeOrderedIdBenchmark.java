@@ -0,0 +1,127 @@
+package app.persistence;
+
+import app.benchmark.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class TimeOrderedIdBenchmark {
+
+	private static final int RECENT_ROWS = 1_000;
+	private static final long ROW_INTERVAL_MILLIS = 10;
+
+	public enum IdType {
+		RANDOM, TIME_ORDERED
+	}
+
+	@Param({"RANDOM", "TIME_ORDERED"})
+	private IdType idType;
+
+	@Param({"200000"})
+	private int preloadedRows;
+
+	private ConfigurableApplicationContext context;
+	private JdbcTemplate jdbcTemplate;
+	private long recentFromMillis;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkApplication.start();
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+		jdbcTemplate.execute("create table id_benchmark (id binary(16) not null primary key, created_on timestamp(6) not null, amount decimal(19, 2) not null)");
+		jdbcTemplate.execute("create index id_benchmark_created_on on id_benchmark (created_on)");
+
+		long firstMillis = System.currentTimeMillis() - preloadedRows * ROW_INTERVAL_MILLIS;
+		recentFromMillis = firstMillis + (preloadedRows - RECENT_ROWS) * ROW_INTERVAL_MILLIS;
+
+		List<Object[]> batch = new ArrayList<>();
+		for (int i = 0; i < preloadedRows; i++) {
+			long createdOn = firstMillis + i * ROW_INTERVAL_MILLIS;
+			batch.add(new Object[]{toBytes(newId(createdOn)), new Timestamp(createdOn), i});
+			if (batch.size() == 1_000) {
+				jdbcTemplate.batchUpdate("insert into id_benchmark (id, created_on, amount) values (?, ?, ?)", batch);
+				batch.clear();
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		jdbcTemplate.execute("drop table id_benchmark");
+		context.close();
+	}
+
+	@Benchmark
+	public int insert() {
+		long now = System.currentTimeMillis();
+		return jdbcTemplate.update("insert into id_benchmark (id, created_on, amount) values (?, ?, ?)",
+				toBytes(newId(now)), new Timestamp(now), 1);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public int recentRangeQuery() {
+		int[] rows = new int[1];
+		if (idType == IdType.TIME_ORDERED) {
+			jdbcTemplate.query("select id, created_on, amount from id_benchmark where id >= ? order by id desc",
+					resultSet -> {
+						rows[0]++;
+					},
+					(Object) toBytes(TimeOrderedUuidGenerator.lowerBound(recentFromMillis)));
+		} else {
+			jdbcTemplate.query("select id, created_on, amount from id_benchmark where created_on >= ? order by created_on desc",
+					resultSet -> {
+						rows[0]++;
+					},
+					new Timestamp(recentFromMillis));
+		}
+		return rows[0];
+	}
+
+	private UUID newId(long epochMillis) {
+		if (idType == IdType.RANDOM) {
+			return UUID.randomUUID();
+		}
+
+		UUID lowerBound = TimeOrderedUuidGenerator.lowerBound(epochMillis);
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return new UUID(lowerBound.getMostSignificantBits() | (random.nextLong() & 0x0FFFL),
+				lowerBound.getLeastSignificantBits() | (random.nextLong() & 0x3FFFFFFFFFFFFFFFL));
+	}
+
+	private static byte[] toBytes(UUID id) {
+		return ByteBuffer.allocate(16)
+				.putLong(id.getMostSignificantBits())
+				.putLong(id.getLeastSignificantBits())
+				.array();
+	}
+}
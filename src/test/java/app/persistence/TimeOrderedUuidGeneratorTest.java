@@ -0,0 +1,65 @@
+package app.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedUuidGeneratorTest {
+
+	@Test
+	void generatedIdsAreVersionSevenAndStrictlyIncreasing() {
+		UUID previous = TimeOrderedUuidGenerator.generate();
+
+		for (int i = 0; i < 100_000; i++) {
+			UUID next = TimeOrderedUuidGenerator.generate();
+
+			assertEquals(7, next.version());
+			assertEquals(2, next.variant());
+			assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+			previous = next;
+		}
+	}
+
+	@Test
+	void concurrentlyGeneratedIdsAreUnique() throws Exception {
+		int threads = 8;
+		int idsPerThread = 50_000;
+		Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<?>> results = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			results.add(executor.submit(() -> {
+				for (int j = 0; j < idsPerThread; j++) {
+					ids.add(TimeOrderedUuidGenerator.generate());
+				}
+			}));
+		}
+
+		for (Future<?> result : results) {
+			result.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertEquals(threads * idsPerThread, ids.size());
+	}
+
+	@Test
+	void lowerBoundSortsBeforeIdsGeneratedAfterIt() {
+		UUID lowerBound = TimeOrderedUuidGenerator.lowerBound(System.currentTimeMillis());
+		UUID generated = TimeOrderedUuidGenerator.generate();
+
+		assertTrue(Long.compareUnsigned(generated.getMostSignificantBits(), lowerBound.getMostSignificantBits()) >= 0);
+	}
+}
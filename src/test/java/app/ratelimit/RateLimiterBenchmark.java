@@ -0,0 +1,68 @@
+package app.ratelimit;
+
+import app.subscription.model.SubscriptionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+	@Param({"1", "10000"})
+	private int users;
+
+	private UUID[] userIds;
+	private RateLimiter rateLimiter;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		RateLimitProperties.Limit unlimited = new RateLimitProperties.Limit();
+		unlimited.setCapacity(Integer.MAX_VALUE / 2);
+		unlimited.setPermitsPerMinute(Integer.MAX_VALUE / 2);
+
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.getGlobal().put(RateLimitedOperation.TRANSFER, unlimited);
+		properties.getTiers().put(SubscriptionType.DEFAULT, Map.of(RateLimitedOperation.TRANSFER, unlimited));
+
+		rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+
+		userIds = new UUID[users];
+		for (int i = 0; i < users; i++) {
+			userIds[i] = UUID.randomUUID();
+		}
+	}
+
+	@Benchmark
+	public UUID baseline() {
+		return userIds[ThreadLocalRandom.current().nextInt(users)];
+	}
+
+	@Benchmark
+	public boolean tryAcquire() {
+		UUID userId = userIds[ThreadLocalRandom.current().nextInt(users)];
+
+		return rateLimiter.tryAcquire(userId, SubscriptionType.DEFAULT, RateLimitedOperation.TRANSFER);
+	}
+}
@@ -0,0 +1,61 @@
+package app.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+	@Test
+	void burstUpToCapacityThenRefillsAtConfiguredRate() {
+		long now = 0;
+		TokenBucket tokenBucket = new TokenBucket(3, 6, now);
+
+		assertTrue(tokenBucket.tryAcquire(now));
+		assertTrue(tokenBucket.tryAcquire(now));
+		assertTrue(tokenBucket.tryAcquire(now));
+		assertFalse(tokenBucket.tryAcquire(now));
+
+		long afterOneInterval = now + TimeUnit.SECONDS.toNanos(10);
+		assertTrue(tokenBucket.tryAcquire(afterOneInterval));
+		assertFalse(tokenBucket.tryAcquire(afterOneInterval));
+	}
+
+	@Test
+	void idleBucketDoesNotAccumulateMoreThanCapacity() {
+		TokenBucket tokenBucket = new TokenBucket(2, 60, 0);
+
+		long muchLater = TimeUnit.HOURS.toNanos(1);
+		assertTrue(tokenBucket.tryAcquire(muchLater));
+		assertTrue(tokenBucket.tryAcquire(muchLater));
+		assertFalse(tokenBucket.tryAcquire(muchLater));
+	}
+
+	@Test
+	void releasedPermitCanBeAcquiredAgain() {
+		long now = 0;
+		TokenBucket tokenBucket = new TokenBucket(1, 6, now);
+
+		assertTrue(tokenBucket.tryAcquire(now));
+		tokenBucket.release();
+		assertTrue(tokenBucket.tryAcquire(now));
+		assertFalse(tokenBucket.tryAcquire(now));
+	}
+
+	@Test
+	void waitIsTimeUntilNextPermit() {
+		long now = 0;
+		TokenBucket tokenBucket = new TokenBucket(2, 6, now);
+
+		assertEquals(0, tokenBucket.getWaitNanos(now));
+		tokenBucket.tryAcquire(now);
+		tokenBucket.tryAcquire(now);
+
+		assertEquals(TimeUnit.SECONDS.toNanos(10), tokenBucket.getWaitNanos(now));
+		assertEquals(TimeUnit.SECONDS.toNanos(4), tokenBucket.getWaitNanos(now + TimeUnit.SECONDS.toNanos(6)));
+	}
+}
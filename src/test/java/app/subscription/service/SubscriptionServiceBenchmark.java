@@ -0,0 +1,85 @@
+package app.subscription.service;
+
+import app.benchmark.BenchmarkApplication;
+import app.money.Money;
+import app.subscription.model.SubscriptionPeriod;
+import app.subscription.model.SubscriptionType;
+import app.transaction.model.Transaction;
+import app.user.model.Country;
+import app.user.model.User;
+import app.user.service.UserService;
+import app.wallet.repository.WalletRepository;
+import app.wallet.service.WalletService;
+import app.web.dto.RegisterRequest;
+import app.web.dto.UpgradeRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubscriptionServiceBenchmark {
+
+	@Param({"PREMIUM", "ULTIMATE"})
+	private SubscriptionType subscriptionType;
+
+	@Param({"MONTHLY", "YEARLY"})
+	private SubscriptionPeriod subscriptionPeriod;
+
+	private ConfigurableApplicationContext context;
+	private SubscriptionService subscriptionService;
+	private User user;
+	private UpgradeRequest upgradeRequest;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkApplication.start();
+		subscriptionService = context.getBean(SubscriptionService.class);
+
+		RegisterRequest registerRequest = RegisterRequest.builder()
+				.username("subscription-" + subscriptionType.name().toLowerCase() + "-" + subscriptionPeriod.name().toLowerCase())
+				.password("123456")
+				.country(Country.BULGARIA)
+				.build();
+		user = context.getBean(UserService.class).register(registerRequest);
+
+		UUID walletId = context.getBean(WalletRepository.class)
+				.findAllWalletsByOwnerUsername(user.getUsername())
+				.get(0)
+				.getId();
+		context.getBean(WalletService.class).topUp(walletId, Money.ofMinor(10_000_000_000L, Money.EUR));
+
+		upgradeRequest = UpgradeRequest.builder()
+				.subscriptionPeriod(subscriptionPeriod)
+				.walletId(walletId)
+				.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Transaction upgrade() {
+		return subscriptionService.upgrade(user, upgradeRequest, subscriptionType);
+	}
+}
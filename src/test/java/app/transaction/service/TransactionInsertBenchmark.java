@@ -0,0 +1,126 @@
+package app.transaction.service;
+
+import app.benchmark.BenchmarkApplication;
+import app.persistence.TimeOrderedUuidGenerator;
+import app.user.model.Country;
+import app.user.model.User;
+import app.user.service.UserService;
+import app.web.dto.RegisterRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class TransactionInsertBenchmark {
+
+	private static final String MYSQL_URL_VARIABLE = "BENCHMARK_MYSQL_URL";
+	private static final String ENABLE_PAGE_SPLITS_MONITOR = "set global innodb_monitor_enable = 'index_page_splits'";
+	private static final String PAGE_SPLITS_QUERY = "select count from information_schema.innodb_metrics where name = 'index_page_splits'";
+	private static final String INSERT_TRANSACTION = """
+			insert into `transaction` (id, owner_id, sender, receiver, amount, balance_left, currency, type, status, description, created_on)
+			values (?, ?, ?, ?, ?, ?, 'EUR', ?, 'SUCCEEDED', ?, ?)
+			""";
+	private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+	private static final BigDecimal BALANCE = new BigDecimal("10.00");
+
+	@Param({"random", "time-ordered"})
+	private String idOrder;
+
+	private ConfigurableApplicationContext context;
+	private TransactionTemplate transactionTemplate;
+	private JdbcTemplate jdbcTemplate;
+	private User owner;
+	private boolean mysql;
+	private long pageSplitsBefore;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		String mysqlUrl = System.getenv(MYSQL_URL_VARIABLE);
+		mysql = mysqlUrl != null && !mysqlUrl.isBlank();
+		context = mysql ? BenchmarkApplication.start(
+				"--spring.datasource.url=" + mysqlUrl,
+				"--spring.datasource.driverClassName=com.mysql.cj.jdbc.Driver",
+				"--spring.datasource.username=${JDBC_DATABASE_USERNAME}",
+				"--spring.datasource.password=${JDBC_DATABASE_PASSWORD}",
+				"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+				"--spring.jpa.hibernate.ddl-auto=none",
+				"--spring.flyway.enabled=true") : BenchmarkApplication.start();
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+		RegisterRequest registerRequest = RegisterRequest.builder()
+				.username("transaction-owner-" + idOrder)
+				.password("123456")
+				.country(Country.BULGARIA)
+				.build();
+		owner = context.getBean(UserService.class).register(registerRequest);
+
+		if (mysql) {
+			jdbcTemplate.execute(ENABLE_PAGE_SPLITS_MONITOR);
+			pageSplitsBefore = readPageSplits();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (mysql) {
+			System.out.printf("InnoDB index_page_splits during %s trial: %d%n", idOrder, readPageSplits() - pageSplitsBefore);
+		} else {
+			System.out.printf("InnoDB index_page_splits not measured, set %s to run against MySQL.%n", MYSQL_URL_VARIABLE);
+		}
+		context.close();
+	}
+
+	@Benchmark
+	public int[] insertTransferPair() {
+		Timestamp createdOn = new Timestamp(System.currentTimeMillis());
+		List<Object[]> rows = new ArrayList<>(2);
+		rows.add(new Object[]{nextId(), toBytes(owner.getId()), owner.getId().toString(), "Smart Wallet Ltd", AMOUNT, BALANCE, "WITHDRAWAL", "Benchmark withdrawal", createdOn});
+		rows.add(new Object[]{nextId(), toBytes(owner.getId()), "Smart Wallet Ltd", owner.getId().toString(), AMOUNT, BALANCE, "DEPOSIT", "Benchmark deposit", createdOn});
+
+		return transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(INSERT_TRANSACTION, rows));
+	}
+
+	private byte[] nextId() {
+		return toBytes("random".equals(idOrder) ? UUID.randomUUID() : TimeOrderedUuidGenerator.generate());
+	}
+
+	private long readPageSplits() {
+		return jdbcTemplate.queryForObject(PAGE_SPLITS_QUERY, Long.class);
+	}
+
+	private static byte[] toBytes(UUID id) {
+		return ByteBuffer.allocate(16)
+				.putLong(id.getMostSignificantBits())
+				.putLong(id.getLeastSignificantBits())
+				.array();
+	}
+}
@@ -0,0 +1,113 @@
+package app.transaction.service;
+
+import app.benchmark.BenchmarkApplication;
+import app.money.Money;
+import app.transaction.model.Transaction;
+import app.transaction.model.TransactionDescription;
+import app.transaction.model.TransactionStatus;
+import app.transaction.model.TransactionType;
+import app.user.model.Country;
+import app.user.model.User;
+import app.user.service.UserService;
+import app.wallet.model.Wallet;
+import app.wallet.repository.WalletRepository;
+import app.web.dto.RegisterRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionServiceBenchmark {
+
+	private static final Money AMOUNT = Money.ofMinor(100, Money.EUR);
+	private static final Money BALANCE = Money.ofMinor(1_000, Money.EUR);
+	private static final TransactionDescription DEPOSIT_DESCRIPTION = TransactionDescription.of("Benchmark deposit");
+	private static final TransactionDescription HISTORY_DESCRIPTION = TransactionDescription.of("Benchmark history");
+
+	private ConfigurableApplicationContext context;
+	private TransactionService transactionService;
+	private User owner;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkApplication.start();
+		transactionService = context.getBean(TransactionService.class);
+
+		RegisterRequest registerRequest = RegisterRequest.builder()
+				.username("history-owner")
+				.password("123456")
+				.country(Country.BULGARIA)
+				.build();
+		owner = context.getBean(UserService.class).register(registerRequest);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Transaction createNewTransaction() {
+		return transactionService.createNewTransaction(owner,
+				"Smart Wallet Ltd",
+				owner.getId().toString(),
+				AMOUNT,
+				BALANCE,
+				TransactionType.DEPOSIT,
+				TransactionStatus.SUCCEEDED,
+				DEPOSIT_DESCRIPTION,
+				null);
+	}
+
+	@Benchmark
+	public List<Transaction> getLastFourTransactionsByWallet(WalletHistory history) {
+		return transactionService.getLastFourTransactionsByWallet(history.wallet);
+	}
+
+	@State(Scope.Benchmark)
+	public static class WalletHistory {
+
+		@Param({"100", "1000"})
+		private int size;
+
+		private Wallet wallet;
+
+		@Setup(Level.Trial)
+		public void setUp(TransactionServiceBenchmark benchmark) {
+			wallet = benchmark.context.getBean(WalletRepository.class)
+					.findAllWalletsByOwnerUsername(benchmark.owner.getUsername())
+					.get(0);
+
+			for (int i = 0; i < size; i++) {
+				benchmark.transactionService.createNewTransaction(benchmark.owner,
+						wallet.getId().toString(),
+						"Smart Wallet Ltd",
+						AMOUNT,
+						BALANCE,
+						TransactionType.WITHDRAWAL,
+						TransactionStatus.SUCCEEDED,
+						HISTORY_DESCRIPTION,
+						null);
+			}
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package app.user.service;
+
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:user_versions;MODE=MySQL;NON_KEYWORDS=USER,VALUE",
+		"spring.datasource.driverClassName=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserVersionServiceTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private UserVersionService userVersionService;
+	private TransactionTemplate transactionTemplate;
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		userVersionService = new UserVersionService(userRepository, transactionManager);
+		transactionTemplate = new TransactionTemplate(transactionManager);
+
+		LocalDateTime now = LocalDateTime.now();
+		userId = userRepository.save(User.builder()
+				.username("user-" + UUID.randomUUID())
+				.password("secret")
+				.role(UserRole.USER)
+				.isActive(true)
+				.createdOn(now)
+				.updatedOn(now)
+				.build()).getId();
+	}
+
+	@Test
+	void changeOnOneNodeIsSeenByAnother() {
+		UserVersionService otherNode = new UserVersionService(userRepository, transactionManager);
+		String before = otherNode.getVersion(userId);
+
+		userVersionService.bump(userId);
+
+		assertNotEquals(before, otherNode.getVersion(userId));
+	}
+
+	@Test
+	void bumpsCommitWithTheChangeTheyReflect() {
+		String before = userVersionService.getVersion(userId);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			userVersionService.bump(userId);
+			userVersionService.bump(userId);
+			assertEquals(before, userVersionService.getVersion(userId));
+		});
+		String committed = userVersionService.getVersion(userId);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			userVersionService.bump(userId);
+			status.setRollbackOnly();
+		});
+
+		assertNotEquals(before, committed);
+		assertEquals(committed, userVersionService.getVersion(userId));
+	}
+
+	@Test
+	void profileEditDoesNotOverwriteTheVersion() {
+		userVersionService.bump(userId);
+		String bumped = userVersionService.getVersion(userId);
+
+		User user = userRepository.findById(userId).orElseThrow();
+		user.setFirstName("Edited");
+		userRepository.save(user);
+
+		assertEquals(bumped, userVersionService.getVersion(userId));
+	}
+}
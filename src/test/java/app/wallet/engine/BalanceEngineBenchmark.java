@@ -0,0 +1,75 @@
+package app.wallet.engine;
+
+import app.benchmark.BenchmarkApplication;
+import app.money.Money;
+import app.transaction.model.Transaction;
+import app.user.model.Country;
+import app.user.service.UserService;
+import app.wallet.repository.WalletRepository;
+import app.wallet.service.WalletService;
+import app.web.dto.RegisterRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class BalanceEngineBenchmark {
+
+	private static final Money AMOUNT = Money.ofMinor(100, Money.EUR);
+
+	@Param({"false", "true"})
+	private boolean engineEnabled;
+
+	private ConfigurableApplicationContext context;
+	private WalletService walletService;
+	private UUID hotWalletId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkApplication.start("--wallets.engine.enabled=" + engineEnabled);
+		walletService = context.getBean(WalletService.class);
+
+		RegisterRequest registerRequest = RegisterRequest.builder()
+				.username("hot-wallet-owner")
+				.password("123456")
+				.country(Country.BULGARIA)
+				.build();
+		context.getBean(UserService.class).register(registerRequest);
+
+		hotWalletId = context.getBean(WalletRepository.class)
+				.findAllWalletsByOwnerUsername(registerRequest.getUsername())
+				.get(0)
+				.getId();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Transaction topUpHotWallet() {
+		return walletService.topUp(hotWalletId, AMOUNT);
+	}
+}
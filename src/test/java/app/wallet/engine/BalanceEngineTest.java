@@ -0,0 +1,125 @@
+package app.wallet.engine;
+
+import app.Application;
+import app.benchmark.BenchmarkApplication;
+import app.money.Money;
+import app.transaction.model.TransactionDescription;
+import app.transaction.model.TransactionStatus;
+import app.user.model.Country;
+import app.user.model.User;
+import app.user.service.UserService;
+import app.wallet.model.Wallet;
+import app.wallet.repository.WalletRepository;
+import app.wallet.service.WalletService;
+import app.web.dto.RegisterRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = {Application.class, BenchmarkApplication.StubNotificationConfiguration.class},
+		properties = {
+				"spring.datasource.url=jdbc:h2:mem:balance-engine;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+				"wallets.engine.enabled=true"
+		})
+@ActiveProfiles("benchmark")
+class BalanceEngineTest {
+
+	private static final Money AMOUNT = Money.ofMinor(500, Money.EUR);
+
+	@Autowired
+	private BalanceEngine balanceEngine;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private WalletService walletService;
+
+	@Autowired
+	private WalletRepository walletRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private User user;
+	private UUID walletId;
+
+	@BeforeEach
+	void setUp() {
+		user = userService.register(RegisterRequest.builder()
+				.username("engine-" + UUID.randomUUID().toString().substring(0, 8))
+				.password("123456")
+				.country(Country.BULGARIA)
+				.build());
+		walletId = walletRepository.findAllWalletsByOwnerUsername(user.getUsername()).get(0).getId();
+	}
+
+	@Test
+	void chargeRollsBackWithCallerTransaction() {
+		walletService.topUp(walletId, AMOUNT);
+		BigDecimal balanceBefore = balanceInDatabase();
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			assertEquals(TransactionStatus.SUCCEEDED, walletService.charge(user, walletId, AMOUNT, TransactionDescription.of("Rolled back")).getStatus());
+			status.setRollbackOnly();
+		});
+
+		assertEquals(0, balanceBefore.compareTo(balanceInDatabase()));
+		walletService.topUp(walletId, AMOUNT);
+		assertEquals(0, balanceBefore.add(AMOUNT.toBigDecimal()).compareTo(balanceInDatabase()));
+	}
+
+	@Test
+	void balanceWrittenOutsideEngineIsReloaded() {
+		walletService.topUp(walletId, AMOUNT);
+
+		Wallet wallet = walletRepository.findCurrentById(walletId).orElseThrow();
+		wallet.setBalance(new BigDecimal("1.00"));
+		wallet.setUpdatedOn(LocalDateTime.now());
+		walletRepository.save(wallet);
+
+		assertEquals(TransactionStatus.FAILED, walletService.charge(user, walletId, AMOUNT, TransactionDescription.of("Too much")).getStatus());
+		walletService.topUp(walletId, AMOUNT);
+		assertEquals(0, new BigDecimal("6.00").compareTo(balanceInDatabase()));
+	}
+
+	@Test
+	void concurrentTopUpsAreAllApplied() throws Exception {
+		BigDecimal balanceBefore = balanceInDatabase();
+		int topUps = 64;
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<?>> results = new ArrayList<>();
+
+		for (int i = 0; i < topUps; i++) {
+			results.add(executor.submit(() -> walletService.topUp(walletId, AMOUNT)));
+		}
+		for (Future<?> result : results) {
+			result.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertTrue(balanceEngine.isEnabled());
+		assertEquals(0, balanceBefore.add(AMOUNT.toBigDecimal().multiply(BigDecimal.valueOf(topUps))).compareTo(balanceInDatabase()));
+	}
+
+	private BigDecimal balanceInDatabase() {
+		return walletRepository.findCurrentById(walletId).orElseThrow().getBalance();
+	}
+}
@@ -0,0 +1,105 @@
+package app.wallet.repository;
+
+import app.user.model.Country;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.wallet.model.Wallet;
+import app.wallet.model.WalletStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:wallet_cache;MODE=MySQL;NON_KEYWORDS=USER,VALUE",
+		"spring.datasource.driverClassName=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WalletRepositoryCacheTest {
+
+	@Autowired
+	private WalletRepository walletRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void balanceReadsIgnoreStaleSecondLevelCacheEntry() {
+		Wallet wallet = createWallet("cached-wallet-owner", new BigDecimal("20.00"));
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		transactionTemplate.executeWithoutResult(status -> walletRepository.findById(wallet.getId()));
+		assertTrue(entityManagerFactory.getCache().contains(Wallet.class, wallet.getId()));
+
+		jdbcTemplate.update("update wallet set balance = ? where id = ?", new BigDecimal("5.00"), wallet.getId());
+
+		Wallet current = transactionTemplate.execute(status -> walletRepository.findCurrentById(wallet.getId()).orElseThrow());
+		assertEquals(0, new BigDecimal("5.00").compareTo(current.getBalance()));
+	}
+
+	@Test
+	void savedBalanceReplacesCachedEntry() {
+		Wallet wallet = createWallet("saved-wallet-owner", new BigDecimal("20.00"));
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			Wallet loaded = walletRepository.findCurrentById(wallet.getId()).orElseThrow();
+			loaded.setBalance(new BigDecimal("7.50"));
+			walletRepository.save(loaded);
+		});
+
+		Wallet cached = transactionTemplate.execute(status -> walletRepository.findById(wallet.getId()).orElseThrow());
+		assertEquals(0, new BigDecimal("7.50").compareTo(cached.getBalance()));
+	}
+
+	private Wallet createWallet(String username, BigDecimal balance) {
+		LocalDateTime now = LocalDateTime.now();
+		User owner = userRepository.save(User.builder()
+				.username(username)
+				.password("123456")
+				.role(UserRole.USER)
+				.isActive(true)
+				.country(Country.BULGARIA)
+				.createdOn(now)
+				.updatedOn(now)
+				.build());
+
+		return walletRepository.save(Wallet.builder()
+				.owner(owner)
+				.status(WalletStatus.ACTIVE)
+				.balance(balance)
+				.currency(Currency.getInstance("EUR"))
+				.createdOn(now)
+				.updatedOn(now)
+				.build());
+	}
+}
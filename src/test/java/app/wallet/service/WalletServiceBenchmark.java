@@ -0,0 +1,120 @@
+package app.wallet.service;
+
+import app.benchmark.BenchmarkApplication;
+import app.money.Money;
+import app.transaction.model.Transaction;
+import app.transaction.model.TransactionDescription;
+import app.user.model.Country;
+import app.user.model.User;
+import app.user.service.UserService;
+import app.wallet.model.Wallet;
+import app.wallet.repository.WalletRepository;
+import app.web.dto.RegisterRequest;
+import app.web.dto.TransferRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Currency;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WalletServiceBenchmark {
+
+	private static final Money AMOUNT = Money.ofMinor(1, Money.EUR);
+	private static final TransactionDescription CHARGE_DESCRIPTION = TransactionDescription.of("Benchmark charge");
+
+	private ConfigurableApplicationContext context;
+	private WalletService walletService;
+	private User sender;
+	private UUID senderWalletId;
+	private UUID receiverWalletId;
+	private TransferRequest transferRequest;
+	private TransferRequest crossCurrencyTransferRequest;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkApplication.start();
+		walletService = context.getBean(WalletService.class);
+
+		sender = register("wallet-sender");
+		User receiver = register("wallet-receiver");
+		senderWalletId = findWalletId(sender);
+		receiverWalletId = findWalletId(receiver);
+		walletService.topUp(senderWalletId, Money.ofMinor(100_000_000, Money.EUR));
+
+		User foreignReceiver = register("wallet-receiver-usd");
+		Wallet foreignWallet = context.getBean(WalletRepository.class).findAllWalletsByOwnerUsername(foreignReceiver.getUsername()).get(0);
+		foreignWallet.setCurrency(Currency.getInstance("USD"));
+		context.getBean(WalletRepository.class).save(foreignWallet);
+
+		transferRequest = TransferRequest.builder()
+				.fromWalletId(senderWalletId)
+				.usernameReceiver(receiver.getUsername())
+				.amount(AMOUNT.toBigDecimal())
+				.build();
+		crossCurrencyTransferRequest = TransferRequest.builder()
+				.fromWalletId(senderWalletId)
+				.usernameReceiver(foreignReceiver.getUsername())
+				.amount(AMOUNT.toBigDecimal())
+				.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Transaction charge() {
+		return walletService.charge(sender, senderWalletId, AMOUNT, CHARGE_DESCRIPTION);
+	}
+
+	@Benchmark
+	public Transaction topUp() {
+		return walletService.topUp(receiverWalletId, AMOUNT);
+	}
+
+	@Benchmark
+	public Transaction transferFunds() {
+		return walletService.transferFunds(sender, transferRequest);
+	}
+
+	@Benchmark
+	public Transaction crossCurrencyTransferFunds() {
+		return walletService.transferFunds(sender, crossCurrencyTransferRequest);
+	}
+
+	private User register(String username) {
+		RegisterRequest registerRequest = RegisterRequest.builder()
+				.username(username)
+				.password("123456")
+				.country(Country.BULGARIA)
+				.build();
+
+		return context.getBean(UserService.class).register(registerRequest);
+	}
+
+	private UUID findWalletId(User user) {
+		return context.getBean(WalletRepository.class)
+				.findAllWalletsByOwnerUsername(user.getUsername())
+				.get(0)
+				.getId();
+	}
+}
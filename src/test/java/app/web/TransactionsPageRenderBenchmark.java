@@ -0,0 +1,131 @@
+package app.web;
+
+import app.transaction.model.Transaction;
+import app.transaction.model.TransactionStatus;
+import app.transaction.model.TransactionType;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.web.mapper.DtoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.CharArrayWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionsPageRenderBenchmark {
+
+	private static final int ROWS = 5_000;
+
+	@Param({"true", "false"})
+	private boolean springElCompiler;
+
+	private GenericApplicationContext applicationContext;
+	private SpringTemplateEngine templateEngine;
+	private FragmentCache fragmentCache;
+	private FragmentCache uncachedFragments;
+	private List<Transaction> transactions;
+	private User user;
+	private CharArrayWriter writer;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+		templateResolver.setPrefix("templates/");
+		templateResolver.setSuffix(".html");
+		templateResolver.setTemplateMode(TemplateMode.HTML);
+		templateResolver.setCacheable(true);
+
+		templateEngine = new SpringTemplateEngine();
+		templateEngine.setTemplateResolver(templateResolver);
+		templateEngine.setEnableSpringELCompiler(springElCompiler);
+
+		fragmentCache = new FragmentCache(templateEngine, true);
+		uncachedFragments = new FragmentCache(templateEngine, false);
+
+		applicationContext = new GenericApplicationContext();
+		applicationContext.registerBean("fragmentCache", FragmentCache.class, () -> fragmentCache);
+		applicationContext.refresh();
+
+		user = User.builder().id(UUID.randomUUID()).username("benchmark-user").role(UserRole.USER).build();
+		transactions = new ArrayList<>(ROWS);
+		LocalDateTime createdOn = LocalDateTime.of(2026, 1, 1, 12, 0);
+		for (int i = 0; i < ROWS; i++) {
+			boolean failed = i % 10 == 0;
+			TransactionType type = i % 3 == 0 ? TransactionType.DEPOSIT : TransactionType.WITHDRAWAL;
+			transactions.add(Transaction.builder()
+					.id(UUID.randomUUID())
+					.owner(user)
+					.sender(UUID.randomUUID().toString())
+					.receiver("loadtest-user-%06d".formatted(i % 200))
+					.amount(BigDecimal.valueOf(100 + i % 5_000, 2))
+					.balanceLeft(BigDecimal.valueOf(50_000 + i, 2))
+					.currency(Currency.getInstance("EUR"))
+					.type(type)
+					.status(failed ? TransactionStatus.FAILED : TransactionStatus.SUCCEEDED)
+					.description("Transfer from benchmark-user to loadtest-user-%06d, for %d.00 EUR.".formatted(i % 200, 1 + i % 50))
+					.failureReason(failed ? "Insufficient funds" : null)
+					.createdOn(createdOn.minusMinutes(i * 17L))
+					.build());
+		}
+		writer = new CharArrayWriter(2 << 20);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		applicationContext.close();
+	}
+
+	@Benchmark
+	public int transactionsPage() {
+		Context context = new Context(Locale.ENGLISH);
+		context.setVariable(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+				new ThymeleafEvaluationContext(applicationContext, null));
+		context.setVariable("transactionRows", DtoMapper.mapTransactionsToRows(transactions));
+		context.setVariable("user", user);
+		context.setVariable("historyFrom", LocalDateTime.of(2025, 10, 1, 0, 0));
+
+		writer.reset();
+		templateEngine.process("transactions", context, writer);
+		return writer.size();
+	}
+
+	@Benchmark
+	public String cachedSidebar() {
+		return fragmentCache.sidebar("transactions", false);
+	}
+
+	@Benchmark
+	public String renderedSidebar() {
+		return uncachedFragments.sidebar("transactions", false);
+	}
+}